@@ -28,6 +28,9 @@
 import static org.spongepowered.api.command.CommandMessageFormatting.error;
 import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 
+import co.aikar.timings.SpongeTimingsFactory;
+import co.aikar.timings.Timing;
+import co.aikar.timings.Timings;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
@@ -349,10 +352,24 @@ public List<String> getSuggestions(CommandSource src, String arguments, @Nullabl
 
     public List<String> getSuggestions(CommandSource src, String arguments, @Nullable Location<World> targetPosition, boolean usingBlock) {
         try {
-            final String[] argSplit = arguments.split(" ", 2);
-            List<String> suggestions = new ArrayList<>(this.dispatcher.getSuggestions(src, arguments, targetPosition));
+            final int spaceIndex = arguments.indexOf(' ');
+            final String command = spaceIndex == -1 ? arguments : arguments.substring(0, spaceIndex);
+            final String commandArgs = spaceIndex == -1 ? "" : arguments.substring(spaceIndex + 1);
+            final ImmutableList<String> originalSuggestions;
+            @Nullable final Timing timing = spaceIndex == -1 ? null : getSuggestionsTiming(command);
+            if (timing != null) {
+                timing.startTimingIfSync();
+            }
+            try {
+                originalSuggestions = ImmutableList.copyOf(this.dispatcher.getSuggestions(src, arguments, targetPosition));
+            } finally {
+                if (timing != null) {
+                    timing.stopTimingIfSync();
+                }
+            }
+            List<String> suggestions = new ArrayList<>(originalSuggestions);
             final TabCompleteEvent.Command event = SpongeEventFactory.createTabCompleteEventCommand(Cause.source(src).build(),
-                    ImmutableList.copyOf(suggestions), suggestions, argSplit.length > 1 ? argSplit[1] : "", argSplit[0], arguments, Optional.ofNullable(targetPosition), usingBlock); // TODO zml: Should this be exposed in the API?
+                    originalSuggestions, suggestions, commandArgs, command, arguments, Optional.ofNullable(targetPosition), usingBlock); // TODO zml: Should this be exposed in the API?
             Sponge.getGame().getEventManager().post(event);
             if (event.isCancelled()) {
                 return ImmutableList.of();
@@ -367,6 +384,30 @@ public List<String> getSuggestions(CommandSource src, String arguments, @Nullabl
         }
     }
 
+    /**
+     * Gets the timing for completing the arguments of the given command,
+     * grouped under the plugin that owns it.
+     *
+     * @param command The command alias being completed
+     * @return The timing, or null if timings are disabled or the command is
+     *     unknown
+     */
+    @Nullable
+    private Timing getSuggestionsTiming(String command) {
+        if (!Timings.isTimingsEnabled()) {
+            return null;
+        }
+        final CommandMapping mapping = this.dispatcher.get(command).orElse(null);
+        if (mapping == null) {
+            return null;
+        }
+        final PluginContainer owner = getOwner(mapping).orElse(null);
+        if (owner == null) {
+            return null;
+        }
+        return SpongeTimingsFactory.ofSafe(owner, "Tab complete: " + mapping.getPrimaryAlias());
+    }
+
     @Override
     public boolean testPermission(CommandSource source) {
         return this.dispatcher.testPermission(source);
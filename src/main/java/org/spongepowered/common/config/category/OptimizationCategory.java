@@ -53,6 +53,15 @@ public class OptimizationCategory extends ConfigCategory {
     @Setting(value = "async-lighting", comment = "Runs lighting updates async.")
     private boolean asyncLighting = true;
 
+    @Setting(value = "container-dirty-slot-tracking", comment = "If enabled, open containers only compare slots whose stack was replaced, changed in size\n"
+            + "or damage, or marked as changed by its slot, instead of comparing every slot each tick.\n"
+            + "Changes made to a stack's NBT in place are only picked up by the periodic full scan.")
+    private boolean containerDirtySlotTracking = false;
+
+    @Setting(value = "container-full-scan-interval", comment = "The amount of change detections between full scans of a container's slots\n"
+            + "when container dirty slot tracking is enabled.")
+    private int containerFullScanInterval = 20;
+
     public StructureSaveCategory getStructureSaveCategory() {
         return this.structureSaveCategory;
     }
@@ -72,4 +81,12 @@ public boolean useCacheTameableOwners() {
     public boolean useAsyncLighting() {
         return this.asyncLighting;
     }
+
+    public boolean useContainerDirtySlotTracking() {
+        return this.containerDirtySlotTracking;
+    }
+
+    public int getContainerFullScanInterval() {
+        return this.containerFullScanInterval;
+    }
 }
@@ -52,6 +52,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -114,14 +115,15 @@ public Optional<DataView> getParent() {
     public Set<DataQuery> getKeys(boolean deep) {
         ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
 
-        for (Map.Entry<String, Object> entry : this.map.entrySet()) {
-            builder.add(of(entry.getKey()));
+        for (String key : this.map.keySet()) {
+            builder.add(of(key));
         }
         if (deep) {
             for (Map.Entry<String, Object> entry : this.map.entrySet()) {
                 if (entry.getValue() instanceof DataView) {
+                    final DataQuery key = of(entry.getKey());
                     for (DataQuery query : ((DataView) entry.getValue()).getKeys(true)) {
-                        builder.add(of(entry.getKey()).then(query));
+                        builder.add(key.then(query));
                     }
                 }
             }
@@ -132,28 +134,59 @@ public Set<DataQuery> getKeys(boolean deep) {
     @Override
     public Map<DataQuery, Object> getValues(boolean deep) {
         ImmutableMap.Builder<DataQuery, Object> builder = ImmutableMap.builder();
-        for (DataQuery query : getKeys(deep)) {
-            Object value = get(query).get();
+        addValues(builder, null, deep);
+        return builder.build();
+    }
+
+    /**
+     * Adds the values of this view to the builder in the same order as the
+     * keys of {@link #getKeys(boolean)}, reading them straight from the
+     * backing maps instead of resolving every key from this view again.
+     */
+    private void addValues(ImmutableMap.Builder<DataQuery, Object> builder, @Nullable DataQuery prefix, boolean deep) {
+        for (Map.Entry<String, Object> entry : this.map.entrySet()) {
+            final DataQuery query = prefix == null ? of(entry.getKey()) : prefix.then(entry.getKey());
+            final Object value = entry.getValue();
             if (value instanceof DataView) {
                 builder.put(query, ((DataView) value).getValues(deep));
             } else {
-                builder.put(query, get(query).get());
+                builder.put(query, cloneIfNeeded(value));
+            }
+        }
+        if (deep) {
+            for (Map.Entry<String, Object> entry : this.map.entrySet()) {
+                final Object value = entry.getValue();
+                if (!(value instanceof DataView)) {
+                    continue;
+                }
+                final DataQuery query = prefix == null ? of(entry.getKey()) : prefix.then(entry.getKey());
+                if (value instanceof MemoryDataView) {
+                    ((MemoryDataView) value).addValues(builder, query, true);
+                } else {
+                    for (Map.Entry<DataQuery, Object> subEntry : ((DataView) value).getValues(true).entrySet()) {
+                        builder.put(query.then(subEntry.getKey()), subEntry.getValue());
+                    }
+                }
             }
         }
-        return builder.build();
     }
 
     @Override
     public final boolean contains(DataQuery path) {
         checkNotNull(path, "path");
-        List<String> queryParts = path.getParts();
+        return contains(path.getParts(), 0);
+    }
 
-        String key = queryParts.get(0);
-        if (queryParts.size() == 1) {
+    private boolean contains(List<String> queryParts, int index) {
+        String key = queryParts.get(index);
+        if (index == queryParts.size() - 1) {
             return this.map.containsKey(key);
         }
-        Optional<DataView> subViewOptional = this.getUnsafeView(key);
-        return subViewOptional.isPresent() && subViewOptional.get().contains(path.popFirst());
+        final Object subView = this.map.get(key);
+        if (subView instanceof MemoryDataView) {
+            return ((MemoryDataView) subView).contains(queryParts, index + 1);
+        }
+        return subView instanceof DataView && ((DataView) subView).contains(subQuery(queryParts, index + 1));
     }
 
     @Override
@@ -179,82 +212,96 @@ public boolean contains(DataQuery path, DataQuery... paths) {
     @Override
     public Optional<Object> get(DataQuery path) {
         checkNotNull(path, "path");
-        List<String> queryParts = path.getParts();
+        return get(path.getParts(), 0);
+    }
 
-        int sz = queryParts.size();
+    // Nested memory views are walked by part index, so no intermediate
+    // queries are created for every level of the path
+    private Optional<Object> get(List<String> queryParts, int index) {
+        int sz = queryParts.size() - index;
 
         if (sz == 0) {
             return Optional.<Object>of(this);
         }
 
-        String key = queryParts.get(0);
+        String key = queryParts.get(index);
         if (sz == 1) {
             final Object object = this.map.get(key);
             if (object == null) {
                 return Optional.empty();
             }
-            if (this.safety == SafetyMode.ALL_DATA_CLONED) {
-                if (object.getClass().isArray()) {
-                    if (object instanceof byte[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((byte[]) object));
-                    } else if (object instanceof short[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((short[]) object));
-                    } else if (object instanceof int[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((int[]) object));
-                    } else if (object instanceof long[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((long[]) object));
-                    } else if (object instanceof float[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((float[]) object));
-                    } else if (object instanceof double[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((double[]) object));
-                    } else if (object instanceof boolean[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((boolean[]) object));
-                    } else {
-                        return Optional.<Object>of(ArrayUtils.clone((Object[]) object));
-                    }
+            return Optional.of(cloneIfNeeded(object));
+        }
+        final Object subView = this.map.get(key);
+        if (subView instanceof MemoryDataView) {
+            return ((MemoryDataView) subView).get(queryParts, index + 1);
+        } else if (subView instanceof DataView) {
+            return ((DataView) subView).get(subQuery(queryParts, index + 1));
+        }
+        return Optional.empty();
+    }
+
+    private Object cloneIfNeeded(Object object) {
+        if (this.safety == SafetyMode.ALL_DATA_CLONED) {
+            if (object.getClass().isArray()) {
+                if (object instanceof byte[]) {
+                    return ArrayUtils.clone((byte[]) object);
+                } else if (object instanceof short[]) {
+                    return ArrayUtils.clone((short[]) object);
+                } else if (object instanceof int[]) {
+                    return ArrayUtils.clone((int[]) object);
+                } else if (object instanceof long[]) {
+                    return ArrayUtils.clone((long[]) object);
+                } else if (object instanceof float[]) {
+                    return ArrayUtils.clone((float[]) object);
+                } else if (object instanceof double[]) {
+                    return ArrayUtils.clone((double[]) object);
+                } else if (object instanceof boolean[]) {
+                    return ArrayUtils.clone((boolean[]) object);
+                } else {
+                    return ArrayUtils.clone((Object[]) object);
                 }
             }
-            return Optional.of(object);
-        }
-        Optional<DataView> subViewOptional = this.getUnsafeView(key);
-        if (!subViewOptional.isPresent()) {
-            return Optional.empty();
         }
-        DataView subView = subViewOptional.get();
-        return subView.get(path.popFirst());
+        return object;
+    }
 
+    private static DataQuery subQuery(List<String> queryParts, int index) {
+        return of(queryParts.subList(index, queryParts.size()).toArray(new String[queryParts.size() - index]));
     }
 
     @Override
-    @SuppressWarnings({"rawtypes", "unchecked"})
     public DataView set(DataQuery path, Object value) {
         checkNotNull(path, "path");
         checkNotNull(value, "value");
         checkState(this.container != null);
 
-        @Nullable DataManager manager;
-
-        // TODO: this call to getDataManager each set can be cleaned up
-        try {
-            manager = Sponge.getDataManager();
-        } catch (Exception e) {
-            manager = null;
-        }
+        set(path.getParts(), 0, value);
+        return this;
+    }
 
-        List<String> parts = path.getParts();
-        String key = parts.get(0);
-        if (parts.size() > 1) {
-            DataQuery subQuery = of(key);
-            Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-            DataView subView;
-            if (!subViewOptional.isPresent()) {
-                this.createView(subQuery);
-                subView = (DataView) this.map.get(key);
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void set(List<String> parts, int index, Object value) {
+        String key = parts.get(index);
+        if (index < parts.size() - 1) {
+            final Object object = this.map.get(key);
+            final DataView subView = object instanceof DataView ? (DataView) object : this.createView(of(key));
+            if (subView instanceof MemoryDataView) {
+                ((MemoryDataView) subView).set(parts, index + 1, value);
             } else {
-                subView = subViewOptional.get();
+                subView.set(subQuery(parts, index + 1), value);
+            }
+            return;
+        }
+        final DataQuery path = of(key);
+        // The data manager is only needed for values that may have a translator
+        @Nullable DataManager manager = null;
+        if (!(value instanceof DataView || value instanceof DataSerializable || value instanceof CatalogType)) {
+            try {
+                manager = Sponge.getDataManager();
+            } catch (Exception e) {
+                manager = null;
             }
-            subView.set(path.popFirst(), value);
-            return this;
         }
         if (value instanceof DataView) {
             checkArgument(value != this, "Cannot set a DataView to itself.");
@@ -267,7 +314,7 @@ public DataView set(DataQuery path, Object value) {
             // see above for why this is copied
             copyDataView(path, valueContainer);
         } else if (value instanceof CatalogType) {
-            return set(path, ((CatalogType) value).getId());
+            set(parts, index, ((CatalogType) value).getId());
         } else if (manager != null && manager.getTranslator(value.getClass()).isPresent()) {
             DataTranslator serializer = manager.getTranslator(value.getClass()).get();
             final DataContainer container = serializer.translate(value);
@@ -303,7 +350,6 @@ public DataView set(DataQuery path, Object value) {
         } else {
             this.map.put(key, value);
         }
-        return this;
     }
 
     @Override
@@ -520,15 +566,6 @@ private Optional<DataView> getUnsafeView(DataQuery path) {
         return get(path).filter(obj -> obj instanceof DataView).map(obj -> (DataView) obj);
     }
 
-    private Optional<DataView> getUnsafeView(String path) {
-        final Object object = this.map.get(path);
-        if (!(object instanceof DataView)) {
-            return Optional.empty();
-        }
-        return Optional.of((DataView) object);
-    }
-
-
     @Override
     public Optional<Boolean> getBoolean(DataQuery path) {
         return get(path).flatMap(Coerce::asBoolean);
@@ -827,6 +864,44 @@ public boolean isEmpty() {
         return this.map.isEmpty();
     }
 
+    /**
+     * Gets a read-only view of the values stored directly in this view,
+     * keyed by their single part name. Nested views are returned as their
+     * {@link MemoryDataView} instances and no values are copied, so this is
+     * only meant for internal serializers that walk the whole tree.
+     *
+     * @return The backing values of this view
+     */
+    public Map<String, Object> getBackingValues() {
+        return Collections.unmodifiableMap(this.map);
+    }
+
+    /**
+     * Sets a value that never needs to be serialized, which are boxed
+     * primitives, strings and the byte and int arrays used by NBT, under a
+     * single part key.
+     * Unlike {@link #set(DataQuery, Object)} this does not look up any
+     * {@link DataTranslator}s, arrays are still cloned according to the
+     * {@link SafetyMode} of this view.
+     *
+     * @param key The single part key
+     * @param value The value to set
+     * @return This view, for chaining
+     */
+    public MemoryDataView setPrimitive(String key, Object value) {
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+        if (this.safety == SafetyMode.ALL_DATA_CLONED || this.safety == SafetyMode.CLONED_ON_SET) {
+            if (value instanceof byte[]) {
+                value = ArrayUtils.clone((byte[]) value);
+            } else if (value instanceof int[]) {
+                value = ArrayUtils.clone((int[]) value);
+            }
+        }
+        this.map.put(key, value);
+        return this;
+    }
+
     @Override
     public SafetyMode getSafetyMode() {
         return this.safety;
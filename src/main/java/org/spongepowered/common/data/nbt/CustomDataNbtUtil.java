@@ -194,38 +194,30 @@ public static DataTransactionResult remove(NBTTagCompound data, Class<? extends
 
     public static void readCustomData(NBTTagCompound compound, DataHolder dataHolder) {
         if (dataHolder instanceof IMixinCustomDataHolder) {
+            @Nullable NBTTagList manipulatorData = null;
+            @Nullable NBTTagList failedData = null;
             if (compound.hasKey(NbtDataUtil.CUSTOM_MANIPULATOR_TAG_LIST, NbtDataUtil.TAG_LIST)) {
-                final NBTTagList list = compound.getTagList(NbtDataUtil.CUSTOM_MANIPULATOR_TAG_LIST, NbtDataUtil.TAG_COMPOUND);
-                final ImmutableList.Builder<DataView> builder = ImmutableList.builder();
-                if (list != null && list.tagCount() != 0) {
-                    for (int i = 0; i < list.tagCount(); i++) {
-                        final NBTTagCompound internal = list.getCompoundTagAt(i);
-                        builder.add(NbtTranslator.getInstance().translateFrom(internal));
-                    }
-                }
-                try {
-                    final SerializedDataTransaction transaction = DataUtil.deserializeManipulatorList(builder.build());
-                    final List<DataManipulator<?, ?>> manipulators = transaction.deserializedManipulators;
-                    for (DataManipulator<?, ?> manipulator : manipulators) {
-                        dataHolder.offer(manipulator);
-                    }
-                    if (!transaction.failedData.isEmpty()) {
-                        ((IMixinCustomDataHolder) dataHolder).addFailedData(transaction.failedData);
-                    }
-                } catch (InvalidDataException e) {
-                    SpongeImpl.getLogger().error("Could not translate custom plugin data! ", e);
-                }
+                manipulatorData = compound.getTagList(NbtDataUtil.CUSTOM_MANIPULATOR_TAG_LIST, NbtDataUtil.TAG_COMPOUND);
             }
             if (compound.hasKey(NbtDataUtil.FAILED_CUSTOM_DATA, NbtDataUtil.TAG_LIST)) {
-                final NBTTagList list = compound.getTagList(NbtDataUtil.FAILED_CUSTOM_DATA, NbtDataUtil.TAG_COMPOUND);
-                final ImmutableList.Builder<DataView> builder = ImmutableList.builder();
-                if (list != null && list.tagCount() != 0) {
-                    for (int i = 0; i < list.tagCount(); i++) {
-                        final NBTTagCompound internal = list.getCompoundTagAt(i);
-                        builder.add(NbtTranslator.getInstance().translateFrom(internal));
-                    }
-                }
-                // Re-attempt to deserialize custom data
+                failedData = compound.getTagList(NbtDataUtil.FAILED_CUSTOM_DATA, NbtDataUtil.TAG_COMPOUND);
+            }
+            if (manipulatorData != null || failedData != null) {
+                // Most holders never have their custom data accessed, so the holder
+                // may keep it serialized until a plugin actually asks for it
+                ((IMixinCustomDataHolder) dataHolder).deferCustomData(manipulatorData, failedData);
+            }
+        }
+    }
+
+    public static void deserializeCustomData(@Nullable NBTTagList manipulatorData, @Nullable NBTTagList failedData, DataHolder dataHolder) {
+        if (manipulatorData != null) {
+            final ImmutableList.Builder<DataView> builder = ImmutableList.builder();
+            for (int i = 0; i < manipulatorData.tagCount(); i++) {
+                final NBTTagCompound internal = manipulatorData.getCompoundTagAt(i);
+                builder.add(NbtTranslator.getInstance().translateFrom(internal));
+            }
+            try {
                 final SerializedDataTransaction transaction = DataUtil.deserializeManipulatorList(builder.build());
                 final List<DataManipulator<?, ?>> manipulators = transaction.deserializedManipulators;
                 for (DataManipulator<?, ?> manipulator : manipulators) {
@@ -234,12 +226,33 @@ public static void readCustomData(NBTTagCompound compound, DataHolder dataHolder
                 if (!transaction.failedData.isEmpty()) {
                     ((IMixinCustomDataHolder) dataHolder).addFailedData(transaction.failedData);
                 }
+            } catch (InvalidDataException e) {
+                SpongeImpl.getLogger().error("Could not translate custom plugin data! ", e);
+            }
+        }
+        if (failedData != null) {
+            final ImmutableList.Builder<DataView> builder = ImmutableList.builder();
+            for (int i = 0; i < failedData.tagCount(); i++) {
+                final NBTTagCompound internal = failedData.getCompoundTagAt(i);
+                builder.add(NbtTranslator.getInstance().translateFrom(internal));
+            }
+            // Re-attempt to deserialize custom data
+            final SerializedDataTransaction transaction = DataUtil.deserializeManipulatorList(builder.build());
+            final List<DataManipulator<?, ?>> manipulators = transaction.deserializedManipulators;
+            for (DataManipulator<?, ?> manipulator : manipulators) {
+                dataHolder.offer(manipulator);
+            }
+            if (!transaction.failedData.isEmpty()) {
+                ((IMixinCustomDataHolder) dataHolder).addFailedData(transaction.failedData);
             }
         }
     }
 
     public static void writeCustomData(NBTTagCompound compound, DataHolder dataHolder) {
         if (dataHolder instanceof IMixinCustomDataHolder) {
+            if (((IMixinCustomDataHolder) dataHolder).writeDeferredCustomData(compound)) {
+                return;
+            }
             final List<DataManipulator<?, ?>> manipulators = ((IMixinCustomDataHolder) dataHolder).getCustomManipulators();
             if (!manipulators.isEmpty()) {
                 final List<DataView> manipulatorViews = DataUtil.getSerializedManipulatorList(manipulators);
@@ -113,12 +113,15 @@ public JsonWriter beginObject() {
         Object parent = peek();
         if (parent instanceof DataView) {
             checkState(this.pendingKey != null);
-            ((DataView) parent).createView(this.pendingKey);
+            // Write the nested object straight into its parent instead of building a separate container that set would copy
+            this.stack.add(((DataView) parent).createView(this.pendingKey));
             this.pendingKey = null;
             return this;
         }
 
-        put(DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED));
+        DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        put(container);
+        this.stack.add(container);
         return this;
     }
 
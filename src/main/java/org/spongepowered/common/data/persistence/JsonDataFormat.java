@@ -37,8 +37,8 @@
 import org.spongepowered.api.data.persistence.InvalidDataException;
 import org.spongepowered.api.data.persistence.StringDataFormat;
 import org.spongepowered.common.SpongeCatalogType;
+import org.spongepowered.common.data.MemoryDataView;
 
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
@@ -87,7 +87,8 @@ public DataContainer readFrom(Reader input) throws InvalidDataException, IOExcep
 
     @Override
     public DataContainer readFrom(InputStream input) throws IOException {
-        try (JsonReader reader = new JsonReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)))) {
+        // JsonReader already reads through its own char buffer, wrapping the reader in a BufferedReader only copies every char twice
+        try (JsonReader reader = new JsonReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
             return readFrom(reader);
         }
     }
@@ -106,19 +107,27 @@ private static void readView(JsonReader reader, DataView view) throws IOExceptio
         reader.beginObject();
 
         while (reader.hasNext()) {
-            DataQuery key = of(reader.nextName());
+            String name = reader.nextName();
+            JsonToken token = reader.peek();
 
-            if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+            if (token == JsonToken.BEGIN_OBJECT) {
                 // Check this early so we don't need to copy the view
-                readView(reader, view.createView(key));
+                readView(reader, view.createView(of(name)));
+            } else if (view instanceof MemoryDataView && isPrimitive(token)) {
+                // Strings, numbers and booleans never need to be translated, so skip the lookups done by set
+                ((MemoryDataView) view).setPrimitive(name, read(reader));
             } else {
-                view.set(key, read(reader));
+                view.set(of(name), read(reader));
             }
         }
 
         reader.endObject();
     }
 
+    private static boolean isPrimitive(JsonToken token) {
+        return token == JsonToken.STRING || token == JsonToken.NUMBER || token == JsonToken.BOOLEAN;
+    }
+
     @Nullable
     private static Object read(JsonReader reader) throws IOException {
         JsonToken token = reader.peek();
@@ -194,9 +203,17 @@ public void writeTo(Writer output, DataView data) throws IOException {
     private static void writeView(JsonWriter writer, DataView view) throws IOException {
         writer.beginObject();
 
-        for (Map.Entry<DataQuery, Object> entry : view.getValues(false).entrySet()) {
-            writer.name(entry.getKey().asString('.'));
-            write(writer, entry.getValue());
+        if (view instanceof MemoryDataView) {
+            // Walk the backing map directly, getValues copies every nested view into a new map first
+            for (Map.Entry<String, Object> entry : ((MemoryDataView) view).getBackingValues().entrySet()) {
+                writer.name(entry.getKey());
+                write(writer, entry.getValue());
+            }
+        } else {
+            for (Map.Entry<DataQuery, Object> entry : view.getValues(false).entrySet()) {
+                writer.name(entry.getKey().asString('.'));
+                write(writer, entry.getValue());
+            }
         }
 
         writer.endObject();
@@ -49,6 +49,7 @@
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.common.data.MemoryDataView;
 import org.spongepowered.common.data.util.NbtDataUtil;
 
 import java.util.List;
@@ -78,6 +79,10 @@ private static void containerToCompound(final DataView container, final NBTTagCo
         // from the instance of checks.
         checkNotNull(container);
         checkNotNull(compound);
+        if (container instanceof MemoryDataView) {
+            memoryViewToCompound((MemoryDataView) container, compound);
+            return;
+        }
         for (Map.Entry<DataQuery, Object> entry : container.getValues(false).entrySet()) {
             Object value = entry.getValue();
             String key = entry.getKey().asString('.');
@@ -93,9 +98,46 @@ private static void containerToCompound(final DataView container, final NBTTagCo
         }
     }
 
+    /**
+     * Walks the backing values of a {@link MemoryDataView} directly. Going
+     * through {@link DataView#getValues(boolean)} would copy every nested
+     * view into an intermediate map first, which is then thrown away again.
+     */
+    private static void memoryViewToCompound(final MemoryDataView view, final NBTTagCompound compound) {
+        // Match the copying done by DataView#get for views that clone their data
+        final boolean cloneArrays = view.getSafetyMode() == DataView.SafetyMode.ALL_DATA_CLONED;
+        for (Map.Entry<String, Object> entry : view.getBackingValues().entrySet()) {
+            final Object value = entry.getValue();
+            final String key = entry.getKey();
+            if (value instanceof MemoryDataView) {
+                NBTTagCompound inner = new NBTTagCompound();
+                memoryViewToCompound((MemoryDataView) value, inner);
+                compound.setTag(key, inner);
+            } else if (value instanceof Boolean) {
+                compound.setTag(key + BOOLEAN_IDENTIFER, new NBTTagByte(((Boolean) value) ? (byte) 1 : 0));
+            } else if (value instanceof byte[]) {
+                compound.setTag(key, new NBTTagByteArray(cloneArrays ? ((byte[]) value).clone() : (byte[]) value));
+            } else if (value instanceof int[]) {
+                compound.setTag(key, new NBTTagIntArray(cloneArrays ? ((int[]) value).clone() : (int[]) value));
+            } else {
+                compound.setTag(key, getBaseFromObject(value));
+            }
+        }
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     private static NBTBase getBaseFromObject(Object value) {
         checkNotNull(value);
+        // Most values are strings and boxed numbers, which are all final
+        // classes, so check those by their exact class first
+        final Class<?> type = value.getClass();
+        if (type == String.class) {
+            return new NBTTagString((String) value);
+        } else if (type == Integer.class) {
+            return new NBTTagInt((Integer) value);
+        } else if (type == Double.class) {
+            return new NBTTagDouble((Double) value);
+        }
         if (value instanceof Boolean) {
             return new NBTTagByte((Boolean) value ? (byte) 1 : 0);
         } else if (value instanceof Byte) {
@@ -178,6 +220,9 @@ private static void setInternal(NBTBase base, byte type, DataView view, String k
         checkNotNull(key);
         checkArgument(!key.isEmpty());
         checkArgument(type > NbtDataUtil.TAG_END && type <= NbtDataUtil.TAG_INT_ARRAY);
+        if (view instanceof MemoryDataView && setPrimitiveInternal(base, type, (MemoryDataView) view, key)) {
+            return;
+        }
         switch (type) {
             case NbtDataUtil.TAG_BYTE:
                 if (key.contains(BOOLEAN_IDENTIFER)) {
@@ -238,6 +283,52 @@ private static void setInternal(NBTBase base, byte type, DataView view, String k
         }
     }
 
+    /**
+     * Sets primitive, string and array tags straight in to the view. These
+     * never need a {@link DataTranslator}, so there is no point in creating a
+     * {@link DataQuery} and going through {@link DataView#set(DataQuery, Object)}
+     * for each of them.
+     *
+     * @return False if the tag type has to be set the regular way
+     */
+    private static boolean setPrimitiveInternal(NBTBase base, byte type, MemoryDataView view, String key) {
+        switch (type) {
+            case NbtDataUtil.TAG_BYTE:
+                if (key.contains(BOOLEAN_IDENTIFER)) {
+                    view.setPrimitive(key.replace(BOOLEAN_IDENTIFER, ""), (((NBTTagByte) base).getByte() != 0));
+                } else {
+                    view.setPrimitive(key, ((NBTTagByte) base).getByte());
+                }
+                return true;
+            case NbtDataUtil.TAG_SHORT:
+                view.setPrimitive(key, ((NBTTagShort) base).getShort());
+                return true;
+            case NbtDataUtil.TAG_INT:
+                view.setPrimitive(key, ((NBTTagInt) base).getInt());
+                return true;
+            case NbtDataUtil.TAG_LONG:
+                view.setPrimitive(key, ((NBTTagLong) base).getLong());
+                return true;
+            case NbtDataUtil.TAG_FLOAT:
+                view.setPrimitive(key, ((NBTTagFloat) base).getFloat());
+                return true;
+            case NbtDataUtil.TAG_DOUBLE:
+                view.setPrimitive(key, ((NBTTagDouble) base).getDouble());
+                return true;
+            case NbtDataUtil.TAG_BYTE_ARRAY:
+                view.setPrimitive(key, ((NBTTagByteArray) base).getByteArray());
+                return true;
+            case NbtDataUtil.TAG_STRING:
+                view.setPrimitive(key, ((NBTTagString) base).getString());
+                return true;
+            case NbtDataUtil.TAG_INT_ARRAY:
+                view.setPrimitive(key, ((NBTTagIntArray) base).getIntArray());
+                return true;
+            default:
+                return false;
+        }
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     private static Object fromTagBase(NBTBase base, byte type) {
         switch (type) {
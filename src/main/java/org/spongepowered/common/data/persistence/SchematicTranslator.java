@@ -39,6 +39,7 @@
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.schematic.BlockPalette;
 import org.spongepowered.api.world.schematic.BlockPaletteTypes;
@@ -64,6 +65,7 @@ public class SchematicTranslator implements DataTranslator<Schematic> {
     private static final TypeToken<Schematic> TYPE_TOKEN = TypeToken.of(Schematic.class);
     private static final int VERSION = 1;
     private static final int MAX_SIZE = 65535;
+    private static final int MAX_STATE_CACHE_SIZE = 4096;
 
     public static SchematicTranslator get() {
         return INSTANCE;
@@ -130,11 +132,16 @@ public Schematic translate(DataView view) throws InvalidDataException {
             palette = GlobalPalette.instance;
         }
 
+        final Cause cause = SpongeImpl.getImplementationCause();
         MutableBlockVolume buffer =
                 new ArrayMutableBlockBuffer(palette, new Vector3i(-offset[0], -offset[1], -offset[2]), new Vector3i(width, height, length));
 
         byte[] blockdata = (byte[]) view.get(DataQueries.Schematic.BLOCK_DATA).get();
-        int index = 0;
+        // Resolved states by palette id, so the palette is only queried once per id
+        BlockState[] states = new BlockState[Math.min(palette.getHighestId() + 1, MAX_STATE_CACHE_SIZE)];
+        int x = 0;
+        int y = 0;
+        int z = 0;
         int i = 0;
         int value = 0;
         int varint_length = 0;
@@ -153,14 +160,23 @@ public Schematic translate(DataView view) throws InvalidDataException {
                 }
                 i++;
             }
-            // index = (y * length + z) * width + x
-            int y = index / (width * length);
-            int z = (index % (width * length)) / width;
-            int x = (index % (width * length)) % width;
-            BlockState state = palette.get(value).get();
-            buffer.setBlock(x - offset[0], y - offset[1], z - offset[2], state, SpongeImpl.getImplementationCause());
+            BlockState state = value < states.length ? states[value] : null;
+            if (state == null) {
+                state = palette.get(value).get();
+                if (value < states.length) {
+                    states[value] = state;
+                }
+            }
+            buffer.setBlock(x - offset[0], y - offset[1], z - offset[2], state, cause);
 
-            index++;
+            // index = (y * length + z) * width + x
+            if (++x == width) {
+                x = 0;
+                if (++z == length) {
+                    z = 0;
+                    y++;
+                }
+            }
         }
         Map<Vector3i, TileEntityArchetype> tiles = Maps.newHashMap();
         List<DataView> tiledata = view.getViewList(DataQueries.Schematic.TILEENTITY_DATA).orElse(null);
@@ -219,6 +235,9 @@ public DataView addTo(Schematic schematic, DataView data) {
         BlockPalette palette = schematic.getPalette();
         ByteArrayOutputStream buffer = new ByteArrayOutputStream(width * height * length);
 
+        // Neighbouring blocks are usually the same state, so remember the last id
+        BlockState lastState = null;
+        int lastId = 0;
         for (int y = 0; y < height; y++) {
             int y0 = yMin + y;
             for (int z = 0; z < length; z++) {
@@ -226,7 +245,11 @@ public DataView addTo(Schematic schematic, DataView data) {
                 for (int x = 0; x < width; x++) {
                     int x0 = xMin + x;
                     BlockState state = schematic.getBlock(x0, y0, z0);
-                    int id = palette.getOrAssign(state);
+                    if (state != lastState) {
+                        lastState = state;
+                        lastId = palette.getOrAssign(state);
+                    }
+                    int id = lastId;
 
                     while ((id & -128) != 0) {
                         buffer.write(id & 127 | 128);
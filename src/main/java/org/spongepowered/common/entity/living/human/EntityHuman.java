@@ -494,8 +494,36 @@ public void pushPackets(@Nullable EntityPlayerMP player, Packet<?>... packets) {
      * @return An array of packets to send in a single tick
      */
     public Packet<?>[] popQueuedPackets(@Nullable EntityPlayerMP player) {
-        List<Packet<?>[]> queue = this.playerPacketMap.get(player == null ? null : player.getUniqueID());
-        return queue == null || queue.isEmpty() ? null : queue.remove(0);
+        final UUID key = player == null ? null : player.getUniqueID();
+        List<Packet<?>[]> queue = this.playerPacketMap.get(key);
+        if (queue == null || queue.isEmpty()) {
+            return null;
+        }
+        final Packet<?>[] packets = queue.remove(0);
+        if (queue.isEmpty()) {
+            // Drop drained queues so hasQueuedPackets stays cheap
+            this.playerPacketMap.remove(key);
+        }
+        return packets;
+    }
+
+    /**
+     * (Internal) Gets whether any packets are queued, either for all players
+     * or for a single tracking player.
+     *
+     * @return True if there are packets left to pop
+     */
+    public boolean hasQueuedPackets() {
+        return !this.playerPacketMap.isEmpty();
+    }
+
+    /**
+     * (Internal) Gets whether any packets are queued for specific players only.
+     *
+     * @return True if a per-player queue exists
+     */
+    public boolean hasPlayerQueuedPackets() {
+        return this.playerPacketMap.size() > (this.playerPacketMap.containsKey(null) ? 1 : 0);
     }
 
     @Override
@@ -48,4 +48,6 @@ public interface IMixinContainer {
     void setSpectatorChest(boolean spectatorChest);
 
     SlotAdapter getSlotAdapter(int slot);
+
+    void markSlotDirty(int slotNumber);
 }
@@ -27,18 +27,22 @@
 import com.google.common.collect.ImmutableList;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataTransactionResult;
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.merge.MergeFunction;
 import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.common.data.nbt.CustomDataNbtUtil;
 import org.spongepowered.common.data.util.NbtDataUtil;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 
 import java.util.List;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
 public interface IMixinCustomDataHolder {
 
     default DataTransactionResult offerCustom(DataManipulator<?, ?> manipulator) {
@@ -86,4 +90,28 @@ default void removeCustomFromNbt(DataManipulator<?, ?> manipulator) {
 
     void addFailedData(ImmutableList<DataView> failedData);
     List<DataView> getFailedData();
+
+    /**
+     * Hands serialized custom data read from NBT to this holder. Holders may
+     * keep it serialized until it is first accessed, by default it is
+     * deserialized right away.
+     *
+     * @param manipulatorData The serialized custom manipulators, if any
+     * @param failedData The data that previously failed to deserialize, if any
+     */
+    default void deferCustomData(@Nullable NBTTagList manipulatorData, @Nullable NBTTagList failedData) {
+        CustomDataNbtUtil.deserializeCustomData(manipulatorData, failedData, (DataHolder) this);
+    }
+
+    /**
+     * Writes the deferred custom data back to the given compound if it was
+     * never accessed since it was read.
+     *
+     * @param compound The compound to write to
+     * @return True if the deferred data was written and nothing else needs
+     *     to be serialized
+     */
+    default boolean writeDeferredCustomData(NBTTagCompound compound) {
+        return false;
+    }
 }
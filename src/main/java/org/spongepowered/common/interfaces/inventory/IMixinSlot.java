@@ -24,10 +24,15 @@
  */
 package org.spongepowered.common.interfaces.inventory;
 
+import org.spongepowered.common.interfaces.IMixinContainer;
 import org.spongepowered.common.interfaces.inventory.trait.IInventoryObservable;
 
+import javax.annotation.Nullable;
+
 public interface IMixinSlot extends IInventoryObservable {
     
     public abstract int getSlotIndex(); 
 
+    void setContainer(@Nullable IMixinContainer container);
+
 }
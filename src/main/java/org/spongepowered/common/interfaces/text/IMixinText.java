@@ -24,12 +24,23 @@
  */
 package org.spongepowered.common.interfaces.text;
 
+import net.minecraft.network.play.server.SPacketChat;
+import net.minecraft.util.text.ChatType;
 import net.minecraft.util.text.ITextComponent;
 
 public interface IMixinText {
 
     ITextComponent toComponent();
 
+    /**
+     * Gets the chat packet for this text, which is created once per
+     * {@link ChatType} and shared between every receiver of it.
+     *
+     * @param type The chat type
+     * @return The chat packet
+     */
+    SPacketChat toChatPacket(ChatType type);
+
     String toPlain();
 
     String toPlainSingle();
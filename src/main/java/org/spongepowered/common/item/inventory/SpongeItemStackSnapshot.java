@@ -70,46 +70,68 @@ public class SpongeItemStackSnapshot implements ItemStackSnapshot {
     private final ItemType itemType;
     private final int count;
     private final int damageValue;
-    private final ImmutableList<ImmutableDataManipulator<?, ?>> manipulators;
     private final transient ItemStack privateStack; // only for internal use since the processors have a huge say
-    private final ImmutableSet<Key<?>> keys;
-    private final ImmutableSet<ImmutableValue<?>> values;
+    @Nullable private volatile ManipulatorData manipulatorData;
     @Nullable private final NBTTagCompound compound;
     @Nullable private Optional<UUID> creatorUniqueId;
 
     public SpongeItemStackSnapshot(ItemStack itemStack) {
+        this(itemStack, true);
+    }
+
+    /**
+     * Creates a snapshot of the given stack. If the stack is not copied the
+     * snapshot takes ownership of it, which is only safe for stacks that
+     * nothing else will modify afterwards.
+     *
+     * @param itemStack The item stack
+     * @param copyStack Whether the stack should be copied
+     */
+    public SpongeItemStackSnapshot(ItemStack itemStack, boolean copyStack) {
         checkNotNull(itemStack);
         this.itemType = itemStack.getItem();
         this.count = itemStack.getQuantity();
-        ImmutableList.Builder<ImmutableDataManipulator<?, ?>> builder = ImmutableList.builder();
-        ImmutableSet.Builder<Key<?>> keyBuilder = ImmutableSet.builder();
-        ImmutableSet.Builder<ImmutableValue<?>> valueBuilder = ImmutableSet.builder();
-        for (DataManipulator<?, ?> manipulator : ((IMixinCustomDataHolder) itemStack).getCustomManipulators()) {
-            builder.add(manipulator.asImmutable());
-            keyBuilder.addAll(manipulator.getKeys());
-            valueBuilder.addAll(manipulator.getValues());
-        }
         this.damageValue = ((net.minecraft.item.ItemStack) itemStack).getItemDamage();
-        this.manipulators = builder.build();
-        this.privateStack = itemStack.copy();
-        this.keys = keyBuilder.build();
-        this.values = valueBuilder.build();
+        this.privateStack = copyStack ? itemStack.copy() : itemStack;
+        // The private stack already holds its own copy of the compound, so it only
+        // needs to be copied again when there is sponge data that has to be filtered
         @Nullable NBTTagCompound compound = ((net.minecraft.item.ItemStack) this.privateStack).getTagCompound();
-        if (compound != null) {
-            compound = compound.copy();
+        if (compound != null && hasSpongeData(compound)) {
+            compound = NbtDataUtil.filterSpongeCustomData(compound.copy());
         }
-        if (compound != null) {
-            NbtDataUtil.filterSpongeCustomData(compound);
-            if (!compound.hasNoTags()) {
-                this.compound = compound;
-            } else {
-                this.compound = null;
-            }
+        if (compound != null && !compound.hasNoTags()) {
+            this.compound = compound;
         } else {
             this.compound = null;
         }
     }
 
+    private static boolean hasSpongeData(NBTTagCompound compound) {
+        return compound.hasKey(NbtDataUtil.SPONGE_DATA, NbtDataUtil.TAG_COMPOUND) || compound.hasKey(NbtDataUtil.FORGE_DATA, NbtDataUtil.TAG_COMPOUND);
+    }
+
+    private ImmutableList<ImmutableDataManipulator<?, ?>> getManipulatorList() {
+        return getManipulatorData().manipulators;
+    }
+
+    private ManipulatorData getManipulatorData() {
+        ManipulatorData data = this.manipulatorData;
+        if (data == null) {
+            // Built on first use, most snapshots (like the ones captured for slot transactions) never have their data queried
+            if (!((IMixinCustomDataHolder) this.privateStack).hasManipulators()) {
+                data = ManipulatorData.EMPTY;
+            } else {
+                ImmutableList.Builder<ImmutableDataManipulator<?, ?>> builder = ImmutableList.builder();
+                for (DataManipulator<?, ?> manipulator : ((IMixinCustomDataHolder) this.privateStack).getCustomManipulators()) {
+                    builder.add(manipulator.asImmutable());
+                }
+                data = new ManipulatorData(builder.build());
+            }
+            this.manipulatorData = data;
+        }
+        return data;
+    }
+
     public SpongeItemStackSnapshot(ItemType itemType,
                                    int count,
                                    int damageValue,
@@ -117,18 +139,12 @@ public SpongeItemStackSnapshot(ItemType itemType,
                                    @Nullable NBTTagCompound compound) {
         this.itemType = checkNotNull(itemType);
         this.count = count;
-        this.manipulators = checkNotNull(manipulators);
+        this.manipulatorData = new ManipulatorData(checkNotNull(manipulators));
         this.damageValue = damageValue;
         this.privateStack = (ItemStack) new net.minecraft.item.ItemStack((Item) this.itemType, this.count, this.damageValue);
-        ImmutableSet.Builder<Key<?>> keyBuilder = ImmutableSet.builder();
-        ImmutableSet.Builder<ImmutableValue<?>> valueBuilder = ImmutableSet.builder();
-        for (ImmutableDataManipulator<?, ?> manipulator : this.manipulators) {
+        for (ImmutableDataManipulator<?, ?> manipulator : manipulators) {
             this.privateStack.offer(manipulator.asMutable());
-            keyBuilder.addAll(manipulator.getKeys());
-            valueBuilder.addAll(manipulator.getValues());
         }
-        this.keys = keyBuilder.build();
-        this.values = valueBuilder.build();
         this.compound = compound == null ? null : compound.copy();
     }
 
@@ -149,8 +165,9 @@ public boolean isEmpty() {
 
     @Override
     public ItemStack createStack() {
-        net.minecraft.item.ItemStack nativeStack = ItemStackUtil.cloneDefensiveNative(ItemStackUtil.toNative(this.privateStack.copy()));
-        if(this.compound != null) {
+        net.minecraft.item.ItemStack nativeStack = ItemStackUtil.cloneDefensiveNative(ItemStackUtil.toNative(this.privateStack));
+        // The copy already carries the compound when it is shared with the private stack
+        if (this.compound != null && this.compound != ((net.minecraft.item.ItemStack) this.privateStack).getTagCompound()) {
             nativeStack.setTagCompound(this.compound.copy());
         }
         return ItemStackUtil.fromNative(nativeStack);
@@ -158,7 +175,7 @@ public ItemStack createStack() {
 
     @Override
     public List<ImmutableDataManipulator<?, ?>> getManipulators() {
-        return this.manipulators;
+        return getManipulatorList();
     }
 
     @Override
@@ -173,8 +190,8 @@ public DataContainer toContainer() {
             .set(DataQueries.ITEM_TYPE, this.itemType.getId())
             .set(DataQueries.ITEM_COUNT, this.count)
             .set(DataQueries.ITEM_DAMAGE_VALUE, this.damageValue);
-        if (!this.manipulators.isEmpty()) {
-            container.set(DataQueries.DATA_MANIPULATORS, DataUtil.getSerializedImmutableManipulatorList(this.manipulators));
+        if (!getManipulatorList().isEmpty()) {
+            container.set(DataQueries.DATA_MANIPULATORS, DataUtil.getSerializedImmutableManipulatorList(getManipulatorList()));
         }
         if (this.compound != null) {
             container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(this.compound));
@@ -185,7 +202,7 @@ public DataContainer toContainer() {
     @Override
     public <T extends ImmutableDataManipulator<?, ?>> Optional<T> get(Class<T> containerClass) {
         checkNotNull(containerClass);
-        for (ImmutableDataManipulator<?, ?> manipulator : this.manipulators) {
+        for (ImmutableDataManipulator<?, ?> manipulator : getManipulatorList()) {
             if (containerClass.isInstance(manipulator)) {
                 return Optional.of((T) manipulator);
             }
@@ -289,7 +306,7 @@ public ItemStackSnapshot merge(ItemStackSnapshot that, MergeFunction function) {
 
     @Override
     public List<ImmutableDataManipulator<?, ?>> getContainers() {
-        return this.manipulators;
+        return getManipulatorList();
     }
 
     @Override
@@ -314,12 +331,12 @@ public ItemStackSnapshot copy() {
 
     @Override
     public Set<Key<?>> getKeys() {
-        return this.keys;
+        return getManipulatorData().keys;
     }
 
     @Override
     public Set<ImmutableValue<?>> getValues() {
-        return this.values;
+        return getManipulatorData().values;
     }
 
     @Override
@@ -386,4 +403,31 @@ public boolean equals(Object o) {
     public int hashCode() {
         return Objects.hashCode(this.itemType, this.count, this.damageValue, this.compound, this.creatorUniqueId);
     }
+
+    /**
+     * The manipulators of a snapshot together with their keys and values,
+     * published as one object so that readers never see them half built.
+     */
+    private static final class ManipulatorData {
+
+        static final ManipulatorData EMPTY = new ManipulatorData(ImmutableList.of());
+
+        final ImmutableList<ImmutableDataManipulator<?, ?>> manipulators;
+        final ImmutableSet<Key<?>> keys;
+        final ImmutableSet<ImmutableValue<?>> values;
+
+        ManipulatorData(ImmutableList<ImmutableDataManipulator<?, ?>> manipulators) {
+            ImmutableSet.Builder<Key<?>> keyBuilder = ImmutableSet.builder();
+            ImmutableSet.Builder<ImmutableValue<?>> valueBuilder = ImmutableSet.builder();
+            for (ImmutableDataManipulator<?, ?> manipulator : manipulators) {
+                keyBuilder.addAll(manipulator.getKeys());
+                valueBuilder.addAll(manipulator.getValues());
+            }
+            this.manipulators = manipulators;
+            this.keys = keyBuilder.build();
+            this.values = valueBuilder.build();
+        }
+
+    }
+
 }
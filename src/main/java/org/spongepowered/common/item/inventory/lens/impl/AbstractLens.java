@@ -53,11 +53,17 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
+import javax.annotation.Nullable;
+
 public abstract class AbstractLens<TInventory, TStack> extends ObservableLens<TInventory, TStack> implements Observer<InventoryEventArgs> {
 
+    private static final int MAX_QUERY_INDEX_ENTRIES = 32;
+
     protected final InventoryAdapter<TInventory, TStack> adapter;
     
     protected final Class<? extends Inventory> adapterType;
@@ -76,6 +82,9 @@
     
     private int maxOrdinal = 0;
     
+    // StrategyIndexKey -> Matches, held here so the index is collected with the lens tree
+    @Nullable private volatile Map<Object, List<Lens<TInventory, TStack>>> queryIndex;
+    
     public AbstractLens(int base, int size, InventoryAdapter<TInventory, TStack> adapter, SlotProvider<TInventory, TStack> slots) {
         this(base, size, checkNotNull(adapter, "adapter"), adapter.getClass(), slots);
     }
@@ -169,6 +178,32 @@ public Lens<TInventory, TStack> getParent() {
         return this.parent;
     }
     
+    /**
+     * Gets the cached query matches of this lens tree, the least recently
+     * used entries are evicted once the index is full.
+     * 
+     * @return query index of this lens
+     */
+    public Map<Object, List<Lens<TInventory, TStack>>> getQueryIndex() {
+        Map<Object, List<Lens<TInventory, TStack>>> index = this.queryIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = this.queryIndex;
+                if (index == null) {
+                    this.queryIndex = index = Collections.synchronizedMap(new LinkedHashMap<Object, List<Lens<TInventory, TStack>>>(16, 0.75F, true) {
+                        private static final long serialVersionUID = 1L;
+
+                        @Override
+                        protected boolean removeEldestEntry(Map.Entry<Object, List<Lens<TInventory, TStack>>> eldest) {
+                            return this.size() > MAX_QUERY_INDEX_ENTRIES;
+                        }
+                    });
+                }
+            }
+        }
+        return index;
+    }
+    
     @Override
     public IntSet getSlots() {
         return IntSets.unmodifiable(this.availableSlots);
@@ -38,6 +38,7 @@
 import java.lang.reflect.Constructor;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -47,6 +48,9 @@ public abstract class MinecraftLens extends AbstractLens<IInventory, ItemStack>
     // InventoryAdapterClass -> LensClass -> Size -> ReusableLens
     private static Map<Class<? extends InventoryAdapter>, Map<Class<? extends Lens<IInventory, ItemStack>>, Int2ObjectMap<ReusableLens>>> reusableLenses = new HashMap<>();
 
+    // AdapterClass -> LensClass -> AdapterConstructor
+    private static final Map<Class<? extends Inventory>, Map<Class<?>, Constructor<?>>> adapterCtors = new ConcurrentHashMap<>();
+
     @SuppressWarnings("unchecked")
     public static <T extends Lens<IInventory, ItemStack>> ReusableLens<T> getLens(Class<T> lensType, InventoryAdapter<IInventory, ItemStack> adapter, Function<SlotCollection, T> lens, Supplier<SlotCollection> slots) {
         Map<Class<? extends Lens<IInventory, ItemStack>>, Int2ObjectMap<ReusableLens>> adapterLenses = reusableLenses.computeIfAbsent(adapter.getClass(), k -> new HashMap<>());
@@ -65,11 +69,18 @@ public MinecraftLens(int base, int size, InventoryAdapter<IInventory, ItemStack>
     @SuppressWarnings("unchecked")
     @Override
     protected Constructor<InventoryAdapter<IInventory, ItemStack>> getAdapterCtor() throws NoSuchMethodException {
-        try {
-            return (Constructor<InventoryAdapter<IInventory, ItemStack>>) this.adapterType.getConstructor(Fabric.class, this.getClass(), Inventory.class);
-        } catch (Exception ex1) {
-            return (Constructor<InventoryAdapter<IInventory, ItemStack>>) this.adapterType.getConstructor(Fabric.class, Lens.class, Inventory.class);
+        // Adapters are created for every query result, so only look their constructor up once
+        final Map<Class<?>, Constructor<?>> ctors = adapterCtors.computeIfAbsent(this.adapterType, k -> new ConcurrentHashMap<>());
+        Constructor<?> ctor = ctors.get(this.getClass());
+        if (ctor == null) {
+            try {
+                ctor = this.adapterType.getConstructor(Fabric.class, this.getClass(), Inventory.class);
+            } catch (Exception ex1) {
+                ctor = this.adapterType.getConstructor(Fabric.class, Lens.class, Inventory.class);
+            }
+            ctors.put(this.getClass(), ctor);
         }
+        return (Constructor<InventoryAdapter<IInventory, ItemStack>>) ctor;
     }
 
     @Override
@@ -26,6 +26,7 @@
 
 import static com.google.common.base.Preconditions.*;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
@@ -39,6 +40,7 @@
 import org.spongepowered.common.item.inventory.lens.Fabric;
 import org.spongepowered.common.item.inventory.lens.Lens;
 import org.spongepowered.common.item.inventory.lens.MutableLensSet;
+import org.spongepowered.common.item.inventory.lens.impl.AbstractLens;
 import org.spongepowered.common.item.inventory.lens.impl.collections.MutableLensSetImpl;
 import org.spongepowered.common.item.inventory.query.result.MinecraftResultAdapterProvider;
 import org.spongepowered.common.item.inventory.query.result.QueryResult;
@@ -52,7 +54,9 @@
 import org.spongepowered.common.item.inventory.query.strategy.expression.ExpressionStrategy;
 
 import java.lang.reflect.Constructor;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 public class Query<TInventory, TStack> {
@@ -129,7 +133,29 @@ public Inventory execute(ResultAdapterProvider<TInventory, TStack> resultProvide
             return this.lens.getAdapter(this.inventory, null);
         }
 
-        return this.toResult(resultProvider, this.depthFirstSearch(this.lens));
+        return this.toResult(resultProvider, this.search());
+    }
+
+    private MutableLensSet<TInventory, TStack> search() {
+        final Object indexKey = this.strategy.getIndexKey();
+        if (indexKey == null || !(this.lens instanceof AbstractLens)) {
+            return this.depthFirstSearch(this.lens);
+        }
+
+        final Map<Object, List<Lens<TInventory, TStack>>> index = ((AbstractLens<TInventory, TStack>) this.lens).getQueryIndex();
+        final Object key = Arrays.asList(this.strategy.getClass(), indexKey);
+        List<Lens<TInventory, TStack>> indexed = index.get(key);
+        if (indexed == null) {
+            final MutableLensSet<TInventory, TStack> matches = this.depthFirstSearch(this.lens);
+            index.put(key, ImmutableList.copyOf(matches));
+            return matches;
+        }
+
+        final MutableLensSet<TInventory, TStack> matches = new MutableLensSetImpl<TInventory, TStack>(true);
+        for (Lens<TInventory, TStack> match : indexed) {
+            matches.add(match);
+        }
+        return matches;
     }
 
     @SuppressWarnings("unchecked")
@@ -27,9 +27,23 @@
 import org.spongepowered.common.item.inventory.lens.Fabric;
 import org.spongepowered.common.item.inventory.lens.Lens;
 
+import javax.annotation.Nullable;
+
 public abstract class QueryStrategy<TInventory, TStack, TArgs> {
 
     public abstract QueryStrategy<TInventory, TStack, TArgs> with(TArgs[] args);
 
     public abstract boolean matches(Lens<TInventory, TStack> lens, Lens<TInventory, TStack> parent, Fabric<TInventory> inventory);
+
+    /**
+     * Gets a key for the arguments of this strategy if its matches only
+     * depend on the structure of the lens tree and never on the contents of
+     * the inventory, which allows the matches to be indexed per root lens.
+     *
+     * @return The index key, or null if the matches can't be indexed
+     */
+    @Nullable
+    public Object getIndexKey() {
+        return null;
+    }
 }
@@ -56,4 +56,9 @@ public boolean matches(Lens<TInventory, TStack> lens, Lens<TInventory, TStack> p
         return false;
     }
 
+    @Override
+    public Object getIndexKey() {
+        return this.classes;
+    }
+
 }
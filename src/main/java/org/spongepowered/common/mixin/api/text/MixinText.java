@@ -25,6 +25,8 @@
 package org.spongepowered.common.mixin.api.text;
 
 import com.google.common.collect.ImmutableList;
+import net.minecraft.network.play.server.SPacketChat;
+import net.minecraft.util.text.ChatType;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.Style;
 import net.minecraft.util.text.TextComponentBase;
@@ -39,12 +41,15 @@
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.common.interfaces.text.IMixinTextComponent;
 import org.spongepowered.common.interfaces.text.IMixinText;
+import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.text.action.SpongeClickAction;
 import org.spongepowered.common.text.action.SpongeHoverAction;
 import org.spongepowered.common.text.format.SpongeTextColor;
 
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
 @Mixin(value = Text.class, remap = false)
 public abstract class MixinText implements IMixinText {
 
@@ -56,6 +61,7 @@ public abstract class MixinText implements IMixinText {
 
     private ITextComponent component;
     private String json;
+    @Nullable private SPacketChat[] chatPackets;
 
     protected TextComponentBase createComponent() {
         throw new UnsupportedOperationException();
@@ -108,6 +114,26 @@ public ITextComponent toComponent() {
         return getHandle().createCopy(); // Mutable instances are not nice :(
     }
 
+    @Override
+    public SPacketChat toChatPacket(ChatType type) {
+        SPacketChat[] packets = this.chatPackets;
+        if (packets == null) {
+            this.chatPackets = packets = new SPacketChat[ChatType.values().length];
+        }
+
+        SPacketChat packet = packets[type.ordinal()];
+        if (packet == null) {
+            // Texts are immutable, so the packet (and the json it serializes to) can be shared by every receiver
+            ITextComponent component = toComponent();
+            if (type == ChatType.GAME_INFO) {
+                component = SpongeTexts.fixActionBarFormatting(component);
+            }
+            packets[type.ordinal()] = packet = new SPacketChat(component, type);
+        }
+
+        return packet;
+    }
+
     @Override
     public String toPlain() {
         return ((IMixinTextComponent) getHandle()).toPlain();
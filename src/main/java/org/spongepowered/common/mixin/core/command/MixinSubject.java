@@ -124,7 +124,7 @@ public boolean hasPermission(Set<Context> contexts, String permission) {
         if (subj == null) {
             return this.permDefault(permission).asBoolean();
         }
-        Tristate ret = getPermissionValue(contexts, permission);
+        Tristate ret = subj.getPermissionValue(contexts, permission);
         switch (ret) {
             case UNDEFINED:
                 return this.permDefault(permission).asBoolean();
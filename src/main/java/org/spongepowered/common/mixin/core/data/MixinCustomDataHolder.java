@@ -29,7 +29,10 @@
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import net.minecraft.entity.Entity;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
 import net.minecraft.tileentity.TileEntity;
+import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataTransactionResult;
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.data.key.Key;
@@ -38,6 +41,8 @@
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.common.data.nbt.CustomDataNbtUtil;
+import org.spongepowered.common.data.util.NbtDataUtil;
 import org.spongepowered.common.entity.player.SpongeUser;
 import org.spongepowered.common.interfaces.data.IMixinCustomDataHolder;
 
@@ -53,10 +58,55 @@ public abstract class MixinCustomDataHolder implements IMixinCustomDataHolder {
 
     private List<DataManipulator<?, ?>> manipulators = Lists.newArrayList();
     private List<DataView> failedData = Lists.newArrayList();
+    // Custom data read from NBT that has not been accessed yet
+    @Nullable private NBTTagList deferredManipulatorData;
+    @Nullable private NBTTagList deferredFailedData;
+
+    @Override
+    public void deferCustomData(@Nullable NBTTagList manipulatorData, @Nullable NBTTagList failedData) {
+        if (this.deferredManipulatorData != null || this.deferredFailedData != null
+                || !this.manipulators.isEmpty() || !this.failedData.isEmpty()) {
+            // Data read on top of existing data has to be merged with it right away
+            this.resolveDeferredCustomData();
+            CustomDataNbtUtil.deserializeCustomData(manipulatorData, failedData, (DataHolder) this);
+            return;
+        }
+        // Copied so later changes to the compound the data was read from do not leak into this holder
+        this.deferredManipulatorData = manipulatorData == null ? null : manipulatorData.copy();
+        this.deferredFailedData = failedData == null ? null : failedData.copy();
+    }
+
+    @Override
+    public boolean writeDeferredCustomData(NBTTagCompound compound) {
+        if (this.deferredManipulatorData == null && this.deferredFailedData == null) {
+            return false;
+        }
+        // Nothing was deserialized or offered since the data was read, so copies of it are written back as is
+        if (this.deferredManipulatorData != null) {
+            compound.setTag(NbtDataUtil.CUSTOM_MANIPULATOR_TAG_LIST, this.deferredManipulatorData.copy());
+        }
+        if (this.deferredFailedData != null) {
+            compound.setTag(NbtDataUtil.FAILED_CUSTOM_DATA, this.deferredFailedData.copy());
+        }
+        return true;
+    }
+
+    private void resolveDeferredCustomData() {
+        if (this.deferredManipulatorData == null && this.deferredFailedData == null) {
+            return;
+        }
+        final NBTTagList manipulatorData = this.deferredManipulatorData;
+        final NBTTagList failedData = this.deferredFailedData;
+        // Cleared first, deserializing offers the manipulators back to this holder
+        this.deferredManipulatorData = null;
+        this.deferredFailedData = null;
+        CustomDataNbtUtil.deserializeCustomData(manipulatorData, failedData, (DataHolder) this);
+    }
 
     @SuppressWarnings("rawtypes")
     @Override
     public DataTransactionResult offerCustom(DataManipulator<?, ?> manipulator, MergeFunction function) {
+        this.resolveDeferredCustomData();
         @Nullable DataManipulator<?, ?> existingManipulator = null;
         for (DataManipulator<?, ?> existing : this.manipulators) {
             if (manipulator.getClass().isInstance(existing)) {
@@ -79,6 +129,7 @@ public DataTransactionResult offerCustom(DataManipulator<?, ?> manipulator, Merg
     @SuppressWarnings("unchecked")
     @Override
     public <T extends DataManipulator<?, ?>> Optional<T> getCustom(Class<T> customClass) {
+        this.resolveDeferredCustomData();
         for (DataManipulator<?, ?> existing : this.manipulators) {
             if (customClass.isInstance(existing)) {
                 return Optional.of((T) existing.copy());
@@ -89,6 +140,7 @@ public DataTransactionResult offerCustom(DataManipulator<?, ?> manipulator, Merg
 
     @Override
     public DataTransactionResult removeCustom(Class<? extends DataManipulator<?, ?>> customClass) {
+        this.resolveDeferredCustomData();
         @Nullable DataManipulator<?, ?> manipulator = null;
         for (DataManipulator<?, ?> existing : this.manipulators) {
             if (customClass.isInstance(existing)) {
@@ -105,11 +157,13 @@ public DataTransactionResult removeCustom(Class<? extends DataManipulator<?, ?>>
 
     @Override
     public boolean hasManipulators() {
+        this.resolveDeferredCustomData();
         return !this.manipulators.isEmpty();
     }
 
     @Override
     public boolean supportsCustom(Key<?> key) {
+        this.resolveDeferredCustomData();
         return this.manipulators.stream()
                 .filter(manipulator -> manipulator.supports(key))
                 .findFirst()
@@ -118,6 +172,7 @@ public boolean supportsCustom(Key<?> key) {
 
     @Override
     public <E> Optional<E> getCustom(Key<? extends BaseValue<E>> key) {
+        this.resolveDeferredCustomData();
         return this.manipulators.stream()
                 .filter(manipulator -> manipulator.supports(key))
                 .findFirst()
@@ -126,6 +181,7 @@ public <E> Optional<E> getCustom(Key<? extends BaseValue<E>> key) {
 
     @Override
     public <E, V extends BaseValue<E>> Optional<V> getCustomValue(Key<V> key) {
+        this.resolveDeferredCustomData();
         return this.manipulators.stream()
                 .filter(manipulator -> manipulator.supports(key))
                 .findFirst()
@@ -134,12 +190,14 @@ public <E, V extends BaseValue<E>> Optional<V> getCustomValue(Key<V> key) {
 
     @Override
     public List<DataManipulator<?, ?>> getCustomManipulators() {
+        this.resolveDeferredCustomData();
         return this.manipulators.stream().map(DataManipulator::copy).collect(Collectors.toList());
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public <E> DataTransactionResult offerCustom(Key<? extends BaseValue<E>> key, E value) {
+        this.resolveDeferredCustomData();
         for (DataManipulator<?, ?> manipulator : this.manipulators) {
             if (manipulator.supports(key)) {
                 final DataTransactionResult.Builder builder = DataTransactionResult.builder();
@@ -154,6 +212,7 @@ public <E> DataTransactionResult offerCustom(Key<? extends BaseValue<E>> key, E
 
     @Override
     public DataTransactionResult removeCustom(Key<?> key) {
+        this.resolveDeferredCustomData();
         final Iterator<DataManipulator<?, ?>> iterator = this.manipulators.iterator();
         while (iterator.hasNext()) {
             final DataManipulator<?, ?> manipulator = iterator.next();
@@ -176,6 +235,7 @@ public void addFailedData(ImmutableList<DataView> failedData) {
 
     @Override
     public List<DataView> getFailedData() {
+        this.resolveDeferredCustomData();
         return this.failedData;
     }
 }
@@ -93,13 +93,25 @@ public void onSendMetadata(CallbackInfo ci) {
             return;
         }
         EntityHuman human = (EntityHuman) this.trackedEntity;
+        if (!human.hasQueuedPackets()) {
+            return;
+        }
+        // The shared packets are popped once and the same instances are handed to every
+        // tracking player; per-player queues are only consulted when one exists at all.
         Packet<?>[] packets = human.popQueuedPackets(null);
+        final boolean perPlayer = human.hasPlayerQueuedPackets();
+        if (packets == null && !perPlayer) {
+            return;
+        }
         for (EntityPlayerMP player : this.trackingPlayers) {
             if (packets != null) {
                 for (Packet<?> packet : packets) {
                     player.connection.sendPacket(packet);
                 }
             }
+            if (!perPlayer) {
+                continue;
+            }
             Packet<?>[] playerPackets = human.popQueuedPackets(player);
             if (playerPackets != null) {
                 for (Packet<?> packet : playerPackets) {
@@ -31,6 +31,7 @@
 import net.minecraft.inventory.IInventory;
 import net.minecraft.inventory.Slot;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.NonNullList;
 import org.spongepowered.api.item.inventory.Carrier;
 import org.spongepowered.api.item.inventory.InventoryArchetype;
@@ -46,8 +47,12 @@
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.OptimizationCategory;
 import org.spongepowered.common.interfaces.IMixinContainer;
+import org.spongepowered.common.interfaces.inventory.IMixinSlot;
+import org.spongepowered.common.item.inventory.SpongeItemStackSnapshot;
 import org.spongepowered.common.item.inventory.adapter.impl.MinecraftInventoryAdapter;
 import org.spongepowered.common.item.inventory.adapter.impl.slots.SlotAdapter;
 import org.spongepowered.common.item.inventory.lens.Fabric;
@@ -58,6 +63,7 @@
 import org.spongepowered.common.item.inventory.util.ContainerUtil;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -99,8 +105,19 @@ public ItemStack slotClick(int slotId, int dragType, ClickType clickTypeIn, Enti
     protected Optional<Carrier> carrier = Optional.empty();
     protected Optional<Predicate<EntityPlayer>> canInteractWithPredicate = Optional.empty();
 
+    // Dirty slot tracking, only used when enabled in the optimization config
+    private boolean trackDirtySlots;
+    private int fullScanInterval;
+    private int changeDetections;
+    private final BitSet dirtySlots = new BitSet();
+    private ItemStack[] observedStacks = new ItemStack[0];
+    private NBTTagCompound[] observedCompounds = new NBTTagCompound[0];
+
     private void init() {
         this.initialized = true;
+        final OptimizationCategory optimizations = SpongeImpl.getGlobalConfig().getConfig().getOptimizations();
+        this.trackDirtySlots = optimizations.useContainerDirtySlotTracking();
+        this.fullScanInterval = Math.max(1, optimizations.getContainerFullScanInterval());
         this.fabric = MinecraftFabric.of(this);
         this.slots = ContainerUtil.countSlots((Container) (Object) this);
         this.lens = this.spectatorChest ? null : ContainerUtil.getLens(this.fabric, (Container) (Object) this, this.slots); // TODO handle spectator
@@ -163,17 +180,42 @@ public void detectAndSendChanges(boolean captureOnly) {
             this.init();
         }
 
+        // Sponge start - only compare the slots that may have changed since the last detection
+        final boolean fullScan = !this.trackDirtySlots || this.captureInventory || ++this.changeDetections >= this.fullScanInterval;
+        if (this.trackDirtySlots) {
+            if (fullScan) {
+                this.changeDetections = 0;
+            }
+            if (this.observedStacks.length != this.inventorySlots.size()) {
+                this.observedStacks = new ItemStack[this.inventorySlots.size()];
+                this.observedCompounds = new NBTTagCompound[this.inventorySlots.size()];
+            }
+        }
+        // Sponge end
+
         for (int i = 0; i < this.inventorySlots.size(); ++i) {
             final Slot slot = this.inventorySlots.get(i);
             final ItemStack itemstack = slot.getStack();
             ItemStack itemstack1 = this.inventoryItemStacks .get(i);
 
+            // Sponge start
+            if (this.trackDirtySlots && !this.captureInventory) {
+                if (!fullScan && !isSlotChanged(i, itemstack, itemstack1)) {
+                    continue;
+                }
+                this.dirtySlots.clear(i);
+                this.observedStacks[i] = itemstack;
+                this.observedCompounds[i] = itemstack.getTagCompound();
+            }
+            // Sponge end
+
             if (!ItemStack.areItemStacksEqual(itemstack1, itemstack)) {
 
                 // Sponge start
                 if (this.captureInventory) {
+                    // Unless we only capture, the last sent stack is replaced below, so the snapshot can take it over without a copy
                     final ItemStackSnapshot originalItem = itemstack1.isEmpty() ? ItemStackSnapshot.NONE
-                            : ((org.spongepowered.api.item.inventory.ItemStack) itemstack1).createSnapshot();
+                            : new SpongeItemStackSnapshot((org.spongepowered.api.item.inventory.ItemStack) itemstack1, captureOnly);
                     final ItemStackSnapshot newItem = itemstack.isEmpty() ? ItemStackSnapshot.NONE
                             : ((org.spongepowered.api.item.inventory.ItemStack) itemstack).createSnapshot();
 
@@ -198,6 +240,33 @@ public void detectAndSendChanges(boolean captureOnly) {
         }
     }
 
+    /**
+     * Gets whether the stack in the given slot could differ from the last
+     * sent stack. A stack that is still the same instance, with the same
+     * size, damage and compound instance, and whose slot was not marked as
+     * dirty, can only have changed its compound in place, which is left to
+     * the periodic full scan.
+     */
+    private boolean isSlotChanged(int index, ItemStack stack, ItemStack lastSent) {
+        return this.dirtySlots.get(index)
+                || this.observedStacks[index] != stack
+                || this.observedCompounds[index] != stack.getTagCompound()
+                || stack.getCount() != lastSent.getCount()
+                || stack.getItemDamage() != lastSent.getItemDamage();
+    }
+
+    @Override
+    public void markSlotDirty(int slotNumber) {
+        if (slotNumber >= 0) {
+            this.dirtySlots.set(slotNumber);
+        }
+    }
+
+    @Inject(method = "addSlotToContainer", at = @At("RETURN"))
+    private void onAddSlotToContainer(Slot slot, CallbackInfoReturnable<Slot> cir) {
+        ((IMixinSlot) slot).setContainer(this);
+    }
+
     @Inject(method = "putStackInSlot", at = @At(value = "HEAD") )
     public void onPutStackInSlot(int slotId, ItemStack itemstack, CallbackInfo ci) {
         if (this.captureInventory) {
@@ -28,16 +28,37 @@
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.interfaces.IMixinContainer;
 import org.spongepowered.common.interfaces.inventory.IMixinSlot;
 
+import javax.annotation.Nullable;
+
 @Mixin(Slot.class)
 public abstract class MixinSlot implements org.spongepowered.api.item.inventory.Slot, IMixinSlot {
 
     @Shadow @Final private int slotIndex;
+    @Shadow public int slotNumber;
+
+    @Nullable private IMixinContainer container;
 
     @Override
     public int getSlotIndex() {
         return this.slotIndex;
     }
 
+    @Override
+    public void setContainer(@Nullable IMixinContainer container) {
+        this.container = container;
+    }
+
+    @Inject(method = {"putStack", "onSlotChanged"}, at = @At("HEAD"))
+    private void onChanged(CallbackInfo ci) {
+        if (this.container != null) {
+            this.container.markSlotDirty(this.slotNumber);
+        }
+    }
+
 }
@@ -28,6 +28,7 @@
 import static com.google.common.base.Preconditions.checkState;
 
 import co.aikar.timings.TimingsManager;
+import co.aikar.timings.WorldTimingsHandler;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import net.minecraft.command.ICommandManager;
@@ -366,9 +367,18 @@ public void loadAllWorlds(String overworldFolder, String worldName, long seed, W
      */
     @Overwrite
     public void initialWorldChunkLoad() {
+        final long start = System.nanoTime();
+        int prepared = 0;
         for (WorldServer worldServer: this.worlds) {
+            if (((WorldProperties) worldServer.getWorldInfo()).doesGenerateSpawnOnLoad()) {
+                prepared++;
+            }
             this.prepareSpawnArea(worldServer);
         }
+        if (prepared > 1) {
+            LOG.info("Prepared start regions for {} levels in {} ms", prepared,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
         this.clearCurrentTask();
     }
 
@@ -392,6 +402,7 @@ public void prepareSpawnArea(WorldServer worldServer) {
         this.setUserMessage("menu.generatingTerrain");
         LOG.info("Preparing start region for level {} ({})", ((IMixinWorldServer) worldServer).getDimensionId(), ((World) worldServer).getName());
         BlockPos blockpos = worldServer.getSpawnPoint();
+        final long start = System.nanoTime();
         long j = MinecraftServer.getCurrentTimeMillis();
         for (int k = -192; k <= 192 && this.isServerRunning(); k += 16) {
             for (int l = -192; l <= 192 && this.isServerRunning(); l += 16) {
@@ -406,6 +417,8 @@ public void prepareSpawnArea(WorldServer worldServer) {
                 worldServer.getChunkProvider().provideChunk(blockpos.getX() + k >> 4, blockpos.getZ() + l >> 4);
             }
         }
+        LOG.info("Prepared start region for level {} ({}) in {} ms", ((IMixinWorldServer) worldServer).getDimensionId(),
+                ((World) worldServer).getName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         this.clearCurrentTask();
         if (CauseTracker.ENABLED) {
             causeTracker.completePhase(GenerationPhase.State.TERRAIN_GENERATION);
@@ -604,7 +617,13 @@ public void onUpdateTimeLightAndEntitiesHead(CallbackInfo ci) {
             // Note: This injection must come before Forge's pre world tick event or it will cause issues with mods.
             IMixinWorldServer spongeWorld = (IMixinWorldServer) worldServer;
             if (spongeWorld.getChunkGCTickInterval() > 0) {
-                spongeWorld.doChunkGC();
+                final WorldTimingsHandler timings = spongeWorld.getTimingsHandler();
+                timings.doChunkGC.startTiming();
+                try {
+                    spongeWorld.doChunkGC();
+                } finally {
+                    timings.doChunkGC.stopTiming();
+                }
             }
             // Moved from PlayerChunkMap to avoid chunks from unloading after being requested in same tick
             if (worldServer.getPlayerChunkMap().players.isEmpty())
@@ -619,6 +638,29 @@ public void onUpdateTimeLightAndEntitiesHead(CallbackInfo ci) {
         }
     }
 
+    @Redirect(method = "updateTimeLightAndEntities", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/WorldServer;tick()V"))
+    private void onUpdateTimeLightAndEntitiesTickWorld(WorldServer worldServer) {
+        // Time each world separately so a single expensive world can be told apart from the total server tick.
+        final WorldTimingsHandler timings = ((IMixinWorldServer) worldServer).getTimingsHandler();
+        timings.doTick.startTiming();
+        try {
+            worldServer.tick();
+        } finally {
+            timings.doTick.stopTiming();
+        }
+    }
+
+    @Redirect(method = "updateTimeLightAndEntities", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/WorldServer;updateEntities()V"))
+    private void onUpdateTimeLightAndEntitiesTickEntities(WorldServer worldServer) {
+        final WorldTimingsHandler timings = ((IMixinWorldServer) worldServer).getTimingsHandler();
+        timings.tickEntities.startTiming();
+        try {
+            worldServer.updateEntities();
+        } finally {
+            timings.tickEntities.stopTiming();
+        }
+    }
+
     @Redirect(method = "updateTimeLightAndEntities", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/WorldServer;getEntityTracker()Lnet/minecraft/entity/EntityTracker;"))
     public EntityTracker onUpdateTimeLightAndEntitiesGetEntityTracker(WorldServer worldServer) {
         // Chunk unloads must run after a world tick to guarantee any chunks accessed during the world tick have
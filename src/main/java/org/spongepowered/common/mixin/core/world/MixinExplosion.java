@@ -26,6 +26,8 @@
 
 import com.flowpowered.math.vector.Vector3d;
 import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
@@ -170,6 +172,14 @@ public void doExplosionA() {
         if (this.shouldBreakBlocks) {
             // Sponge End
             Set<BlockPos> set = Sets.<BlockPos>newHashSet();
+            // Sponge Start - Rays overlap heavily close to the origin, so cache the block state and
+            // explosion resistance per position for the duration of this explosion instead of
+            // looking them up again for every step of every ray.
+            final Long2ObjectOpenHashMap<IBlockState> stateCache = new Long2ObjectOpenHashMap<>();
+            final Long2FloatOpenHashMap resistanceCache = new Long2FloatOpenHashMap();
+            resistanceCache.defaultReturnValue(Float.NaN);
+            final BlockPos.MutableBlockPos blockpos = new BlockPos.MutableBlockPos();
+            // Sponge End
             int i = 16;
 
             for (int j = 0; j < 16; ++j) {
@@ -189,21 +199,32 @@ public void doExplosionA() {
                             double d8 = this.z;
 
                             for (float f1 = 0.3F; f > 0.0F; f -= 0.22500001F) {
-                                BlockPos blockpos = new BlockPos(d4, d6, d8);
-                                IBlockState iblockstate = this.world.getBlockState(blockpos);
+                                // Sponge Start - Use the mutable position and the cached lookups
+                                blockpos.setPos(d4, d6, d8);
+                                final long key = blockpos.toLong();
+                                IBlockState iblockstate = stateCache.get(key);
+                                if (iblockstate == null) {
+                                    iblockstate = this.world.getBlockState(blockpos);
+                                    stateCache.put(key, iblockstate);
+                                }
 
                                 if (iblockstate.getMaterial() != Material.AIR) {
-                                    float f2 = this.exploder != null
-                                               ? this.exploder.getExplosionResistance((net.minecraft.world.Explosion) (Object) this
-                                            , this.world, blockpos, iblockstate)
-                                               : iblockstate.getBlock().getExplosionResistance((Entity) null);
+                                    float f2 = resistanceCache.get(key);
+                                    if (Float.isNaN(f2)) {
+                                        f2 = this.exploder != null
+                                             ? this.exploder.getExplosionResistance((net.minecraft.world.Explosion) (Object) this
+                                                , this.world, blockpos, iblockstate)
+                                             : iblockstate.getBlock().getExplosionResistance((Entity) null);
+                                        resistanceCache.put(key, f2);
+                                    }
                                     f -= (f2 + 0.3F) * 0.3F;
                                 }
 
-                                if (f > 0.0F && (this.exploder == null || this.exploder
+                                if (f > 0.0F && !set.contains(blockpos) && (this.exploder == null || this.exploder
                                         .canExplosionDestroyBlock((net.minecraft.world.Explosion) (Object) this, this.world, blockpos, iblockstate, f))) {
-                                    set.add(blockpos);
+                                    set.add(blockpos.toImmutable());
                                 }
+                                // Sponge End
 
                                 d4 += d0 * 0.30000001192092896D;
                                 d6 += d1 * 0.30000001192092896D;
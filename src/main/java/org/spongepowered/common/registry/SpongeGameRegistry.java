@@ -128,6 +128,7 @@
 public class SpongeGameRegistry implements GameRegistry {
 
     public static final boolean PRINT_CATALOG_TYPES = Boolean.parseBoolean(System.getProperty("sponge.print_all_catalog_types"));
+    public static final boolean PRINT_REGISTRY_TIMINGS = Boolean.parseBoolean(System.getProperty("sponge.print_registry_timings"));
 
     static {
         TypeSerializers.getDefaultSerializers().registerType(TypeToken.of(CatalogType.class), new CatalogTypeTypeSerializer());
@@ -145,6 +146,7 @@ public class SpongeGameRegistry implements GameRegistry {
     final Map<Class<? extends RegistryModule>, RegistryModule> classMap = new IdentityHashMap<>();
     private final Map<Class<?>, Supplier<?>> builderSupplierMap = new IdentityHashMap<>();
     private final Set<RegistryModule> registryModules = new HashSet<>();
+    private final Map<Class<? extends RegistryModule>, Long> registrationTimes = new IdentityHashMap<>();
 
     @Inject
     public SpongeGameRegistry(SpongePropertyRegistry propertyRegistry) {
@@ -493,7 +495,11 @@ private void registerModulePhase() {
                 throw new IllegalStateException("Something funky happened!");
             }
             final RegistryModule module = this.classMap.get(moduleClass);
+            final long start = PRINT_REGISTRY_TIMINGS ? System.nanoTime() : 0;
             RegistryModuleLoader.tryModulePhaseRegistration(module);
+            if (PRINT_REGISTRY_TIMINGS) {
+                this.registrationTimes.merge(moduleClass, System.nanoTime() - start, Long::sum);
+            }
         }
         registerAdditionalPhase();
     }
@@ -501,7 +507,11 @@ private void registerModulePhase() {
     private void registerAdditionalPhase() {
         for (Class<? extends RegistryModule> moduleClass : this.orderedModules) {
             final RegistryModule module = this.classMap.get(moduleClass);
+            final long start = PRINT_REGISTRY_TIMINGS ? System.nanoTime() : 0;
             RegistryModuleLoader.tryAdditionalRegistration(module);
+            if (PRINT_REGISTRY_TIMINGS) {
+                this.registrationTimes.merge(moduleClass, System.nanoTime() - start, Long::sum);
+            }
         }
     }
 
@@ -531,6 +541,22 @@ public void postInit() {
         this.propertyRegistry.completeRegistration();
         SpongeDataManager.finalizeRegistration();
         this.phase = RegistrationPhase.LOADED;
+        if (PRINT_REGISTRY_TIMINGS) {
+            printRegistrationTimes();
+        }
+    }
+
+    private void printRegistrationTimes() {
+        final List<Map.Entry<Class<? extends RegistryModule>, Long>> times = new ArrayList<>(this.registrationTimes.entrySet());
+        times.sort(Map.Entry.<Class<? extends RegistryModule>, Long>comparingByValue().reversed());
+        long total = 0;
+        final PrettyPrinter printer = new PrettyPrinter(100).add("Registry module registration times").centre().hr();
+        for (Map.Entry<Class<? extends RegistryModule>, Long> entry : times) {
+            printer.add(" %s : %.3f ms", entry.getKey().getSimpleName(), entry.getValue() / 1_000_000D);
+            total += entry.getValue();
+        }
+        printer.hr().add(" %s : %.3f ms", "Total", total / 1_000_000D);
+        printer.trace(System.err, SpongeImpl.getLogger(), Level.DEBUG);
     }
 
     public void registerAdditionals() {
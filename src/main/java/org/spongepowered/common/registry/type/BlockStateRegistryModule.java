@@ -36,9 +36,12 @@
 import java.util.Map;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
 public final class BlockStateRegistryModule implements CatalogRegistryModule<BlockState> {
 
     private final Map<String, BlockState> blockStateMap = new LinkedHashMap<>();
+    @Nullable private ImmutableList<BlockState> blockStates;
 
     public static BlockStateRegistryModule getInstance() {
         return Holder.INSTANCE;
@@ -51,13 +54,19 @@ public Optional<BlockState> getById(String id) {
 
     @Override
     public Collection<BlockState> getAll() {
-        return ImmutableList.copyOf(this.blockStateMap.values());
+        ImmutableList<BlockState> blockStates = this.blockStates;
+        if (blockStates == null) {
+            this.blockStates = blockStates = ImmutableList.copyOf(this.blockStateMap.values());
+        }
+        return blockStates;
     }
 
     void registerBlockState(BlockState blockState) {
         checkNotNull(blockState, "BlockState cannot be null!");
-        if (!this.blockStateMap.containsKey(blockState.getId().toLowerCase(Locale.ENGLISH))) {
-            this.blockStateMap.put(blockState.getId().toLowerCase(Locale.ENGLISH), blockState);
+        final String id = blockState.getId().toLowerCase(Locale.ENGLISH);
+        if (!this.blockStateMap.containsKey(id)) {
+            this.blockStateMap.put(id, blockState);
+            this.blockStates = null;
         }
     }
 
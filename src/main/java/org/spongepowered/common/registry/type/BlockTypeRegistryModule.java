@@ -62,6 +62,8 @@
 import java.util.Map;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
 public class BlockTypeRegistryModule implements SpongeAdditionalCatalogRegistryModule<BlockType>, AlternateCatalogRegistryModule<BlockType> {
 
     public static BlockTypeRegistryModule getInstance() {
@@ -70,6 +72,7 @@ public static BlockTypeRegistryModule getInstance() {
 
     @RegisterCatalog(BlockTypes.class)
     private final Map<String, BlockType> blockTypeMappings = Maps.newHashMap();
+    @Nullable private ImmutableSet<BlockType> blockTypes;
 
     private final BiMap<String, BlockTrait<?>> blockTraitMap = HashBiMap.create();
 
@@ -97,7 +100,11 @@ public Optional<BlockType> getById(String id) {
 
     @Override
     public Collection<BlockType> getAll() {
-        return ImmutableSet.copyOf(this.blockTypeMappings.values());
+        ImmutableSet<BlockType> blockTypes = this.blockTypes;
+        if (blockTypes == null) {
+            this.blockTypes = blockTypes = ImmutableSet.copyOf(this.blockTypeMappings.values());
+        }
+        return blockTypes;
     }
 
     @Override
@@ -108,11 +115,13 @@ public boolean allowsApiRegistration() {
     @Override
     public void registerAdditionalCatalog(BlockType extraCatalog) {
         this.blockTypeMappings.put(extraCatalog.getId().toLowerCase(Locale.ENGLISH), extraCatalog);
+        this.blockTypes = null;
         registerBlockTrait(extraCatalog.getId(), extraCatalog);
     }
 
     public void registerFromGameData(String id, BlockType blockType) {
         this.blockTypeMappings.put(id.toLowerCase(Locale.ENGLISH), blockType);
+        this.blockTypes = null;
         registerBlockTrait(id, blockType);
     }
 
@@ -144,6 +153,7 @@ public void registerDefaults() {
         BlockSnapshot NONE_SNAPSHOT = new SpongeBlockSnapshotBuilder().worldId(BlockUtil.INVALID_WORLD_UUID).position(new Vector3i(0, 0, 0)).blockState((BlockState) Blocks.AIR.getDefaultState()).build();
         RegistryHelper.setFinalStatic(BlockSnapshot.class, "NONE", NONE_SNAPSHOT);
         this.blockTypeMappings.put("none", (BlockType) Blocks.AIR);
+        this.blockTypes = null;
     }
 
     BlockTypeRegistryModule() { }
@@ -43,6 +43,8 @@
 import java.util.Map;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
 public final class ItemTypeRegistryModule implements SpongeAdditionalCatalogRegistryModule<ItemType>, AlternateCatalogRegistryModule<ItemType> {
 
     public static Item NONE_ITEM;
@@ -55,6 +57,7 @@ public static ItemTypeRegistryModule getInstance() {
 
     @RegisterCatalog(ItemTypes.class)
     private final Map<String, ItemType> itemTypeMappings = new HashMap<>();
+    @Nullable private ImmutableList<ItemType> itemTypes;
 
     @Override
     public Map<String, ItemType> provideCatalogMap() {
@@ -77,11 +80,16 @@ public Optional<ItemType> getById(String id) {
 
     @Override
     public Collection<ItemType> getAll() {
-        return ImmutableList.copyOf(this.itemTypeMappings.values());
+        ImmutableList<ItemType> itemTypes = this.itemTypes;
+        if (itemTypes == null) {
+            this.itemTypes = itemTypes = ImmutableList.copyOf(this.itemTypeMappings.values());
+        }
+        return itemTypes;
     }
 
     public void registerFromGameData(String id, ItemType itemType) {
         this.itemTypeMappings.put(id.toLowerCase(Locale.ENGLISH), itemType);
+        this.itemTypes = null;
     }
 
     @Override
@@ -92,6 +100,7 @@ public boolean allowsApiRegistration() {
     @Override
     public void registerAdditionalCatalog(ItemType extraCatalog) {
         this.itemTypeMappings.put(extraCatalog.getId().toLowerCase(Locale.ENGLISH), extraCatalog);
+        this.itemTypes = null;
     }
 
     @Override
@@ -43,28 +43,34 @@
 import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
 
 public final class RegistryModuleLoader {
 
+    // The registration annotations of a module class never change, so they are
+    // resolved once instead of scanning every public method on each phase.
+    private static final Map<Class<?>, ModuleInfo> moduleInfos = new ConcurrentHashMap<>();
+
     private RegistryModuleLoader() {
     }
 
     public static void tryModulePhaseRegistration(RegistryModule module) {
+        final ModuleInfo info = getInfo(module);
         try {
-            if (requiresCustomRegistration(module)) {
-                if (isCustomProperPhase(module)) {
-                    Method method = getCustomRegistration(module);
-                    invokeCustomRegistration(module, checkNotNull(method, "Custom registration module was null!"));
-
+            if (info.customRegistration != null) {
+                if (isProperPhase(info.customPhase)) {
+                    invokeCustomRegistration(module, info.customRegistration);
                 }
-            } else if (isDefaultProperPhase(module)) {
+            } else if (isProperPhase(info.defaultPhase)) {
                 module.registerDefaults();
-                if (hasCatalogRegistration(module)) {
-                    Map<String, ?> map = getCatalogMap(module);
+                if (info.registerCatalog != null) {
+                    Map<String, ?> map = getCatalogMap(module, info);
                     if (map.isEmpty()) {
                         return;
                     }
-                    RegisterCatalog regAnnot = getRegisterCatalogAnnot(module);
+                    RegisterCatalog regAnnot = info.registerCatalog;
                     Set<String> ignored = regAnnot.ignoredFields().length == 0 ? null : Sets.newHashSet(regAnnot.ignoredFields());
                     RegistryHelper.mapFields(regAnnot.value(), map, ignored);
                 }
@@ -74,109 +80,35 @@ public static void tryModulePhaseRegistration(RegistryModule module) {
         }
     }
 
-    private static Method getCustomRegistration(RegistryModule module) {
-        for (Method method : module.getClass().getMethods()) {
-            CustomCatalogRegistration registration = method.getDeclaredAnnotation(CustomCatalogRegistration.class);
-            if (registration != null) {
-                return method;
-            }
-        }
-        return null;
-    }
-
-    private static boolean requiresCustomRegistration(RegistryModule module) {
-        for (Method method : module.getClass().getMethods()) {
-            CustomCatalogRegistration registration = method.getDeclaredAnnotation(CustomCatalogRegistration.class);
-            if (registration != null) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private static boolean hasCatalogRegistration(RegistryModule module) {
-        final RegisterCatalog catalog = module.getClass().getAnnotation(RegisterCatalog.class);
-        if (catalog != null) {
-            return true;
-        }
-        for (Field field : module.getClass().getDeclaredFields()) {
-            RegisterCatalog annotation = field.getAnnotation(RegisterCatalog.class);
-            if (annotation != null) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private static boolean isDefaultProperPhase(RegistryModule module) {
-        try {
-            Method method = module.getClass().getMethod("registerDefaults");
-            DelayedRegistration delay = method.getDeclaredAnnotation(DelayedRegistration.class);
-            if (delay == null) {
-                return SpongeImpl.getRegistry().getPhase() == RegistrationPhase.PRE_REGISTRY;
-            }
-            return SpongeImpl.getRegistry().getPhase() == delay.value();
-        } catch (NoSuchMethodException e) {
-            e.printStackTrace();
-        }
-        return false;
+    private static ModuleInfo getInfo(RegistryModule module) {
+        return moduleInfos.computeIfAbsent(module.getClass(), ModuleInfo::new);
     }
 
-    private static boolean isCustomProperPhase(RegistryModule module) {
-        for (Method method : module.getClass().getMethods()) {
-            CustomCatalogRegistration registration = method.getDeclaredAnnotation(CustomCatalogRegistration.class);
-            DelayedRegistration delay = method.getDeclaredAnnotation(DelayedRegistration.class);
-            if (registration != null) {
-                if (delay == null) {
-                    return SpongeImpl.getRegistry().getPhase() == RegistrationPhase.PRE_REGISTRY;
-                }
-                return SpongeImpl.getRegistry().getPhase() == delay.value();
-            }
-        }
-        return false;
+    private static boolean isProperPhase(@Nullable RegistrationPhase phase) {
+        return phase != null && SpongeImpl.getRegistry().getPhase() == phase;
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static Map<String, ?> getCatalogMap(RegistryModule module) {
+    private static Map<String, ?> getCatalogMap(RegistryModule module, ModuleInfo info) {
         if (module instanceof AlternateCatalogRegistryModule) {
             return checkNotNull(((AlternateCatalogRegistryModule) module).provideCatalogMap());
         }
-        for (Field field : module.getClass().getDeclaredFields()) {
-            RegisterCatalog annotation = field.getAnnotation(RegisterCatalog.class);
-            if (annotation != null) {
-                try {
-                    field.setAccessible(true);
-                    Map<String, ?> map = (Map<String, ?>) field.get(module);
-                    checkState(!map.isEmpty(), "The registered module: "+ module.getClass().getSimpleName()
-                                               + " cannot have an empty mapping during registration!");
-                    return checkNotNull(map);
-                } catch (Exception e) {
-                    SpongeImpl.getLogger().error("Failed to retrieve a registry field from module: " + module.getClass().getCanonicalName());
-                }
+        if (info.catalogField != null) {
+            try {
+                Map<String, ?> map = (Map<String, ?>) info.catalogField.get(module);
+                checkState(!map.isEmpty(), "The registered module: "+ module.getClass().getSimpleName()
+                                           + " cannot have an empty mapping during registration!");
+                return checkNotNull(map);
+            } catch (Exception e) {
+                SpongeImpl.getLogger().error("Failed to retrieve a registry field from module: " + module.getClass().getCanonicalName());
             }
         }
         throw new IllegalStateException("Registry module does not have a catalog map! Registry: " + module.getClass().getCanonicalName());
     }
 
-    private static RegisterCatalog getRegisterCatalogAnnot(RegistryModule module) {
-        final RegisterCatalog catalog = module.getClass().getAnnotation(RegisterCatalog.class);
-        if (catalog != null) {
-            return catalog;
-        }
-        for (Field field : module.getClass().getDeclaredFields()) {
-            RegisterCatalog annotation = field.getAnnotation(RegisterCatalog.class);
-            if (annotation != null) {
-                return annotation;
-            }
-        }
-        throw new IllegalArgumentException("The module does not have a registry to register! " + module.getClass().getCanonicalName());
-    }
-
     private static void invokeCustomRegistration(RegistryModule module, Method method) {
         try {
-            if (isCustomProperPhase(module)) {
-                method.invoke(module);
-            }
+            method.invoke(module);
         } catch (IllegalAccessException | InvocationTargetException e) {
             SpongeImpl.getLogger().error("Error when calling custom catalog registration for module: "
                     + module.getClass().getCanonicalName(), e);
@@ -184,7 +116,7 @@ private static void invokeCustomRegistration(RegistryModule module, Method metho
     }
 
     public static void tryAdditionalRegistration(RegistryModule module) {
-        Method additionalRegistration = getAdditionalMethod(module);
+        Method additionalRegistration = getInfo(module).additionalRegistration;
         if (additionalRegistration != null) {
             try {
                 additionalRegistration.invoke(module);
@@ -194,13 +126,47 @@ public static void tryAdditionalRegistration(RegistryModule module) {
         }
     }
 
-    private static Method getAdditionalMethod(RegistryModule module) {
-        for (Method method : module.getClass().getMethods()) {
-            AdditionalRegistration registration = method.getDeclaredAnnotation(AdditionalRegistration.class);
-            if (registration != null) {
-                return method;
+    private static final class ModuleInfo {
+
+        @Nullable Method customRegistration;
+        @Nullable RegistrationPhase customPhase;
+        @Nullable RegistrationPhase defaultPhase;
+        @Nullable Method additionalRegistration;
+        @Nullable RegisterCatalog registerCatalog;
+        @Nullable Field catalogField;
+
+        ModuleInfo(Class<?> moduleClass) {
+            for (Method method : moduleClass.getMethods()) {
+                if (this.customRegistration == null && method.getDeclaredAnnotation(CustomCatalogRegistration.class) != null) {
+                    this.customRegistration = method;
+                    this.customPhase = getPhase(method);
+                }
+                if (this.additionalRegistration == null && method.getDeclaredAnnotation(AdditionalRegistration.class) != null) {
+                    this.additionalRegistration = method;
+                }
+            }
+            try {
+                this.defaultPhase = getPhase(moduleClass.getMethod("registerDefaults"));
+            } catch (NoSuchMethodException e) {
+                e.printStackTrace();
             }
+            this.registerCatalog = moduleClass.getAnnotation(RegisterCatalog.class);
+            for (Field field : moduleClass.getDeclaredFields()) {
+                RegisterCatalog annotation = field.getAnnotation(RegisterCatalog.class);
+                if (annotation != null) {
+                    if (this.registerCatalog == null) {
+                        this.registerCatalog = annotation;
+                    }
+                    field.setAccessible(true);
+                    this.catalogField = field;
+                    break;
+                }
+            }
+        }
+
+        private static RegistrationPhase getPhase(Method method) {
+            DelayedRegistration delay = method.getDeclaredAnnotation(DelayedRegistration.class);
+            return delay == null ? RegistrationPhase.PRE_REGISTRY : delay.value();
         }
-        return null;
     }
 }
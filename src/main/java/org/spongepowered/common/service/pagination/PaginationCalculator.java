@@ -53,6 +53,9 @@ class PaginationCalculator {
     private static final String NON_UNICODE_CHARS;
     private static final int[] NON_UNICODE_CHAR_WIDTHS;
     private static final byte[] UNICODE_CHAR_WIDTHS;
+    // Resolved width of every character covered by the font tables, so
+    // measuring text does not need to search the non-unicode characters
+    private static final byte[] CHAR_WIDTHS;
     private static final int LINE_WIDTH = 320;
 
     private final int linesPerPage;
@@ -87,6 +90,12 @@ class PaginationCalculator {
                 unicodeCharWidths[i] = (byte) glyphWidths.get(i).getInt();
             }
             UNICODE_CHAR_WIDTHS = unicodeCharWidths;
+
+            byte[] resolvedWidths = new byte[unicodeCharWidths.length];
+            for (int codePoint = 0; codePoint < resolvedWidths.length; ++codePoint) {
+                resolvedWidths[codePoint] = (byte) computeWidth(codePoint);
+            }
+            CHAR_WIDTHS = resolvedWidths;
         } catch (IOException e) {
             throw new ExceptionInInitializerError(e);
         }
@@ -117,6 +126,23 @@ int getLines(Text text) {
      */
     @VisibleForTesting
     int getWidth(int codePoint, boolean isBold) {
+        int width = codePoint >= 0 && codePoint < CHAR_WIDTHS.length ? CHAR_WIDTHS[codePoint] : computeWidth(codePoint);
+        //if bolded width gets 1 added.
+        if(isBold && width > 0) {
+            width = width + 1;
+        }
+
+        return width;
+    }
+
+    /**
+     * Computes the width of a non-bold character with the specified
+     * code point from the font tables.
+     *
+     * @param codePoint The code point of the character
+     * @return The width of the character at the code point
+     */
+    private static int computeWidth(int codePoint) {
         int nonUnicodeIdx = NON_UNICODE_CHARS.indexOf(codePoint);
         int width;
         if (codePoint == 32) {
@@ -144,11 +170,6 @@ int getWidth(int codePoint, boolean isBold) {
         } else {
             width = 0;
         }
-        //if bolded width gets 1 added.
-        if(isBold && width > 0) {
-            width = width + 1;
-        }
-
         return width;
     }
 
@@ -175,10 +196,10 @@ int getWidth(Text text) {
 
             boolean bold = child.getStyle().getBold();
 
-            Integer cp;
+            int cp;
             boolean newLine = false;
             while(i_it.hasNext()){
-                cp = i_it.next();
+                cp = i_it.nextInt();
                 if (cp == '\n') {
                     // if the previous character is a '\n'
                     if (newLine) {
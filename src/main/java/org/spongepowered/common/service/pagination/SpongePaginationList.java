@@ -28,6 +28,7 @@
 import static org.spongepowered.api.command.CommandMessageFormatting.error;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandException;
@@ -43,8 +44,6 @@
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import javax.annotation.Nullable;
 
@@ -110,10 +109,14 @@ public void sendTo(final MessageReceiver receiver) {
             realSource = ((ProxySource)realSource).getOriginalSource();
         }
         PaginationCalculator calculator = new PaginationCalculator(this.linesPerPage);
-        Iterable<Map.Entry<Text, Integer>> counts = StreamSupport.stream(this.contents.spliterator(), false).map(input -> {
+        // Lines are only counted as the pagination walks the contents, so iterable
+        // paginations never measure more than the pages that are actually shown.
+        // List paginations copy the counts below and so still measure every entry
+        // when they are sent, as they need the total number of pages.
+        Iterable<Map.Entry<Text, Integer>> counts = Iterables.transform(this.contents, input -> {
             int lines = calculator.getLines(input);
             return Maps.immutableEntry(input, lines);
-        }).collect(Collectors.toList());
+        });
 
         Text title = this.title.orElse(null);
         if (title != null) {
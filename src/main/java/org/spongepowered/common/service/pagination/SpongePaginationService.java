@@ -31,8 +31,8 @@
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
-import com.google.common.collect.MapMaker;
 import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.command.args.ArgumentParseException;
@@ -50,13 +50,13 @@
 import org.spongepowered.api.util.StartsWithPredicate;
 import org.spongepowered.common.SpongeImpl;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -64,31 +64,81 @@
 
 public class SpongePaginationService implements PaginationService {
 
+    private static final int MAX_PAGINATIONS_PER_SOURCE = 16;
+    private static final long PAGINATION_EXPIRY_NANOS = TimeUnit.MINUTES.toNanos(10);
+
     static class SourcePaginations {
-        private final Map<UUID, ActivePagination> paginations = new ConcurrentHashMap<>();
+        // Only the most recently used paginations of a source are kept, and those are dropped
+        // 10 minutes after their last use, so sources sending many large paginations don't
+        // retain all of their contents.
+        private final Map<UUID, TimedPagination> paginations = new LinkedHashMap<UUID, TimedPagination>(16, 0.75F, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, TimedPagination> eldest) {
+                return size() > MAX_PAGINATIONS_PER_SOURCE;
+            }
+        };
         @Nullable private volatile UUID lastUuid;
 
         @Nullable public ActivePagination get(UUID uuid) {
-            return this.paginations.get(uuid);
+            final long now = System.nanoTime();
+            synchronized (this.paginations) {
+                expire(now);
+                final TimedPagination timed = this.paginations.get(uuid);
+                if (timed == null) {
+                    return null;
+                }
+                timed.lastAccess = now;
+                return timed.pagination;
+            }
         }
 
         public void put(ActivePagination pagination) {
+            final long now = System.nanoTime();
             synchronized (this.paginations) {
-                this.paginations.put(pagination.getId(), pagination);
+                expire(now);
+                this.paginations.put(pagination.getId(), new TimedPagination(pagination, now));
                 this.lastUuid = pagination.getId();
             }
         }
 
         public Set<UUID> keys() {
-            return this.paginations.keySet();
+            synchronized (this.paginations) {
+                expire(System.nanoTime());
+                return ImmutableSet.copyOf(this.paginations.keySet());
+            }
         }
 
         @Nullable
         public UUID getLastUuid() {
             return this.lastUuid;
         }
+
+        private void expire(long now) {
+            // The map is in access order, so the expired paginations are all at its head
+            final Iterator<TimedPagination> it = this.paginations.values().iterator();
+            while (it.hasNext() && now - it.next().lastAccess >= PAGINATION_EXPIRY_NANOS) {
+                it.remove();
+            }
+        }
+    }
+
+    private static final class TimedPagination {
+
+        final ActivePagination pagination;
+        long lastAccess;
+
+        TimedPagination(ActivePagination pagination, long lastAccess) {
+            this.pagination = pagination;
+            this.lastAccess = lastAccess;
+        }
     }
-    private final ConcurrentMap<MessageReceiver, SourcePaginations> activePaginations = new MapMaker().weakKeys().makeMap();
+
+    // Sources like the console are never collected, so their paginations also expire 10 minutes after last access
+    private final Cache<MessageReceiver, SourcePaginations> activePaginations = Caffeine.newBuilder().weakKeys()
+            .expireAfterAccess(10, TimeUnit.MINUTES).build();
 
     // We have a second active pagination system because of the way Players are handled by the server.
     // As Players are recreated every time they die in game, just storing the player in a weak map will
@@ -126,15 +176,7 @@ SourcePaginations getPaginationState(MessageReceiver source, boolean create) {
 
     @Nullable
     private SourcePaginations getPaginationStateForNonPlayer(MessageReceiver source, boolean create) {
-        SourcePaginations ret = this.activePaginations.get(source);
-        if (ret == null && create) {
-            ret = new SourcePaginations();
-            SourcePaginations existing = this.activePaginations.putIfAbsent(source, ret);
-            if (existing != null) {
-                ret = existing;
-            }
-        }
-        return ret;
+        return this.activePaginations.get(source, k -> create ? new SourcePaginations() : null);
     }
 
     @Nullable
@@ -206,9 +248,11 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
             try {
                 id = UUID.fromString(args.next());
             } catch (IllegalArgumentException ex) {
-                if (paginations.getLastUuid() != null) {
+                final UUID lastUuid = paginations.getLastUuid();
+                final ActivePagination lastPagination = lastUuid == null ? null : paginations.get(lastUuid);
+                if (lastPagination != null) {
                     args.setState(state);
-                    return paginations.get(paginations.getLastUuid());
+                    return lastPagination;
                 }
                 throw args.createError(t("Input was not a valid UUID!"));
             }
@@ -216,7 +260,7 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
             if (pagination == null) {
                 throw args.createError(t("No pagination registered for id %s", id.toString()));
             }
-            return paginations.get(id);
+            return pagination;
         }
 
         @Override
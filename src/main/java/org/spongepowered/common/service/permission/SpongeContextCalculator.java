@@ -41,6 +41,7 @@
 import org.spongepowered.common.SpongeImpl;
 
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
@@ -55,6 +56,22 @@ public class SpongeContextCalculator implements ContextCalculator<Subject> {
     private final LoadingCache<RemoteSource, Set<Context>> localIpCache = buildAddressCache(Context.LOCAL_IP_KEY,
                                                                                             input -> input.getConnection().getVirtualHost().getAddress());
 
+    // A connection's addresses never change, so its contexts and host name only need resolving once
+    private final LoadingCache<RemoteSource, Set<Context>> connectionCache = CacheBuilder.newBuilder()
+        .weakKeys()
+        .build(new CacheLoader<RemoteSource, Set<Context>>() {
+            @Override
+            public Set<Context> load(RemoteSource key) throws Exception {
+                final InetSocketAddress virtualHost = key.getConnection().getVirtualHost();
+                return ImmutableSet.<Context>builder()
+                    .addAll(SpongeContextCalculator.this.remoteIpCache.getUnchecked(key))
+                    .addAll(SpongeContextCalculator.this.localIpCache.getUnchecked(key))
+                    .add(new Context(Context.LOCAL_PORT_KEY, String.valueOf(virtualHost.getPort())))
+                    .add(new Context(Context.LOCAL_HOST_KEY, virtualHost.getHostName()))
+                    .build();
+            }
+        });
+
     private LoadingCache<RemoteSource, Set<Context>> buildAddressCache(final String contextKey, final Function<RemoteSource, InetAddress> function) {
         return CacheBuilder.newBuilder()
             .weakKeys()
@@ -85,11 +102,7 @@ public void accumulateContexts(Subject subject, Set<Context> accumulator) {
                 accumulator.add((currentExt.getDimension().getContext()));
             }
             if (source instanceof RemoteSource) {
-                RemoteSource rem = (RemoteSource) source;
-                accumulator.addAll(this.remoteIpCache.getUnchecked(rem));
-                accumulator.addAll(this.localIpCache.getUnchecked(rem));
-                accumulator.add(new Context(Context.LOCAL_PORT_KEY, String.valueOf(rem.getConnection().getVirtualHost().getPort())));
-                accumulator.add(new Context(Context.LOCAL_HOST_KEY, rem.getConnection().getVirtualHost().getHostName()));
+                accumulator.addAll(this.connectionCache.getUnchecked((RemoteSource) source));
             }
         }
 
@@ -110,10 +123,8 @@ public boolean matches(Context context, Subject subject) {
             }
             if (source instanceof RemoteSource) {
                 RemoteSource remote = (RemoteSource) source;
-                if (context.getType().equals(Context.LOCAL_HOST_KEY)) {
-                    return context.getValue().equals(remote.getConnection().getVirtualHost().getHostName());
-                } else if (context.getType().equals(Context.LOCAL_PORT_KEY)) {
-                    return context.getValue().equals(String.valueOf(remote.getConnection().getVirtualHost().getPort()));
+                if (context.getType().equals(Context.LOCAL_HOST_KEY) || context.getType().equals(Context.LOCAL_PORT_KEY)) {
+                    return this.connectionCache.getUnchecked(remote).contains(context);
                 } else if (context.getType().equals(Context.LOCAL_IP_KEY)) {
                     return this.localIpCache.getUnchecked(remote).contains(context);
                 } else if (context.getType().equals(Context.REMOTE_IP_KEY)) {
@@ -34,9 +34,16 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class GlobalMemorySubjectData extends MemorySubjectData {
 
+    private static final int MAX_CACHED_PERMISSIONS = 4096;
+
+    // Resolved values of the global node tree, each permission change starts a new generation with an
+    // empty map so a lookup racing with the change can only fill the map of the generation it started in
+    private volatile Map<String, Tristate> permissionCache = new ConcurrentHashMap<>();
+
     /**
      * Creates a new subject data instance, using the provided service to request instances of permission subjects.
      *
@@ -52,12 +59,43 @@ public Map<Set<Context>, List<Subject>> getAllParents() {
         return ImmutableMap.of(GLOBAL_CONTEXT, getParents(GLOBAL_CONTEXT));
     }
 
+    /**
+     * Gets the value of a permission in the global context, without
+     * checking any parents. Looking a permission up in the node tree splits
+     * it into its parts every time, so resolved values are cached until the
+     * permissions of this subject change.
+     *
+     * @param permission The permission
+     * @return The value of the permission
+     */
+    public Tristate getGlobalPermissionValue(String permission) {
+        final Map<String, Tristate> cache = this.permissionCache;
+        Tristate value = cache.get(permission);
+        if (value == null) {
+            value = getNodeTree(GLOBAL_CONTEXT).get(permission);
+            if (cache.size() >= MAX_CACHED_PERMISSIONS) {
+                cache.clear();
+            }
+            cache.put(permission, value);
+        }
+        return value;
+    }
+
     @Override
     public boolean setPermission(Set<Context> contexts, String permission, Tristate value) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.setPermission(contexts, permission, value);
+        final boolean result = super.setPermission(contexts, permission, value);
+        this.invalidatePermissionCache();
+        return result;
+    }
+
+    @Override
+    public boolean clearPermissions() {
+        final boolean result = super.clearPermissions();
+        this.invalidatePermissionCache();
+        return result;
     }
 
     @Override
@@ -65,7 +103,13 @@ public boolean clearPermissions(Set<Context> contexts) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.clearPermissions(contexts);
+        final boolean result = super.clearPermissions(contexts);
+        this.invalidatePermissionCache();
+        return result;
+    }
+
+    private void invalidatePermissionCache() {
+        this.permissionCache = new ConcurrentHashMap<>();
     }
 
     @Override
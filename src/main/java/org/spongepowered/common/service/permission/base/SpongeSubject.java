@@ -55,7 +55,9 @@ public Tristate getPermissionValue(Set<Context> contexts, String permission) {
     }
 
     protected Tristate getDataPermissionValue(MemorySubjectData subject, String permission) {
-        Tristate res = subject.getNodeTree(SubjectData.GLOBAL_CONTEXT).get(permission);
+        Tristate res = subject instanceof GlobalMemorySubjectData
+                ? ((GlobalMemorySubjectData) subject).getGlobalPermissionValue(permission)
+                : subject.getNodeTree(SubjectData.GLOBAL_CONTEXT).get(permission);
 
         if (res == Tristate.UNDEFINED) {
             for (Subject parent : subject.getParents(SubjectData.GLOBAL_CONTEXT)) {
@@ -52,6 +52,7 @@
 import org.spongepowered.api.text.selector.Selector;
 import org.spongepowered.api.text.selector.SelectorType;
 import org.spongepowered.api.text.selector.SelectorTypes;
+import org.spongepowered.api.util.AABB;
 import org.spongepowered.api.util.Functional;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.world.Locatable;
@@ -70,6 +71,8 @@
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 /**
  * A resolver that acts like Vanilla Minecraft in many regards.
  */
@@ -81,6 +84,9 @@ public class SelectorResolver {
     private static final Set<ArgumentType<?>> LOCATION_BASED_ARGUMENTS;
     private static final Function<Number, Double> TO_DOUBLE = Number::doubleValue;
     private static final Collection<SelectorType> INFINITE_TYPES = ImmutableSet.of(SelectorTypes.ALL_ENTITIES, SelectorTypes.ALL_PLAYERS);
+    private static final double SEARCH_MARGIN = 1.0;
+    private static final double SEARCH_HEIGHT = 4096.0;
+    private static final int MAX_SEARCH_CHUNKS = 4096;
 
     static {
         ImmutableSet.Builder<ArgumentType<?>> builder = ImmutableSet.builder();
@@ -115,6 +121,8 @@ private static <I, R> Predicate<I> requireTypePredicate(Class<I> inputType, fina
     private final Optional<CommandSource> original;
     private final Selector selector;
     private final Predicate<Entity> selectorFilter;
+    @Nullable private final AABB searchBox;
+    private final boolean playerOnly;
     private final boolean alwaysUsePosition;
 
     public SelectorResolver(Collection<? extends Extent> extents, Selector selector, boolean force) {
@@ -136,6 +144,8 @@ private SelectorResolver(Collection<? extends Extent> extents, Vector3d position
         this.original = Optional.ofNullable(original);
         this.selector = checkNotNull(selector);
         this.selectorFilter = makeFilter();
+        this.searchBox = makeSearchBox();
+        this.playerOnly = isPlayerOnlySelector();
         this.alwaysUsePosition = force;
     }
 
@@ -144,29 +154,102 @@ private Predicate<Entity> makeFilter() {
         final Selector sel = this.selector;
         Vector3d position = getPositionOrDefault(this.position, ArgumentTypes.POSITION);
         List<Predicate<Entity>> filters = Lists.newArrayList();
+        // Filters are ordered from cheapest to most expensive: plain field
+        // comparisons first, data manipulator lookups and team scans last
         addTypeFilters(filters);
         addDimensionFilters(position, filters);
         addRadiusFilters(position, filters);
+        addRotationFilters(filters);
         addLevelFilters(filters);
         addGamemodeFilters(filters);
         addNameFilters(filters);
-        addRotationFilters(filters);
         addTeamFilters(filters);
         addScoreFilters(filters);
-        SelectorType selectorType = sel.getType();
-        Optional<Invertible<EntityType>> type = sel.getArgument(ArgumentTypes.ENTITY_TYPE);
-        // isn't an ALL_ENTITIES selector or it is a RANDOM selector for only players
-        boolean isPlayerOnlySelector =
-            selectorType == SelectorTypes.ALL_PLAYERS || selectorType == SelectorTypes.NEAREST_PLAYER
-                || (selectorType == SelectorTypes.RANDOM && type.isPresent() && !type.get().isInverted()
-                && type.get().getValue() != EntityTypes.PLAYER);
-        if (isPlayerOnlySelector) {
+        if (isPlayerOnlySelector()) {
             // insert at the start so it applies first
             filters.add(0, requireTypePredicate(Entity.class, Player.class));
         }
         return Functional.predicateAnd(filters);
     }
 
+    private boolean isPlayerOnlySelector() {
+        SelectorType selectorType = this.selector.getType();
+        Optional<Invertible<EntityType>> type = this.selector.getArgument(ArgumentTypes.ENTITY_TYPE);
+        // isn't an ALL_ENTITIES selector or it is a RANDOM selector for only players
+        return selectorType == SelectorTypes.ALL_PLAYERS || selectorType == SelectorTypes.NEAREST_PLAYER
+                || (selectorType == SelectorTypes.RANDOM && type.isPresent() && !type.get().isInverted()
+                && type.get().getValue() != EntityTypes.PLAYER);
+    }
+
+    /**
+     * Creates a box that contains every entity position accepted by the
+     * radius and volume arguments, so that candidates can be gathered from
+     * the chunks in range instead of from every loaded entity. The box is
+     * only a coarse bound, the exact checks remain part of the filter.
+     *
+     * @return The search box, or null if the arguments do not bound the
+     *     selection horizontally
+     */
+    @Nullable
+    private AABB makeSearchBox() {
+        final Selector sel = this.selector;
+        final Vector3d position = getPositionOrDefault(this.position, ArgumentTypes.POSITION);
+        double minX = Double.NEGATIVE_INFINITY;
+        double minY = Double.NEGATIVE_INFINITY;
+        double minZ = Double.NEGATIVE_INFINITY;
+        double maxX = Double.POSITIVE_INFINITY;
+        double maxY = Double.POSITIVE_INFINITY;
+        double maxZ = Double.POSITIVE_INFINITY;
+        final Optional<Integer> radiusMax = sel.get(ArgumentTypes.RADIUS.maximum());
+        if (radiusMax.isPresent()) {
+            final int radius = radiusMax.get();
+            minX = position.getX() - radius;
+            minY = position.getY() - radius;
+            minZ = position.getZ() - radius;
+            maxX = position.getX() + radius;
+            maxY = position.getY() + radius;
+            maxZ = position.getZ() + radius;
+        }
+        final Vector3d boxDimensions = getPositionOrDefault(ORIGIN, ArgumentTypes.DIMENSION);
+        final Vector3d boxMin = position.min(position.add(boxDimensions));
+        final Vector3d boxMax = position.max(position.add(boxDimensions));
+        if (sel.has(ArgumentTypes.DIMENSION.x())) {
+            minX = Math.max(minX, boxMin.getX());
+            maxX = Math.min(maxX, boxMax.getX());
+        }
+        if (sel.has(ArgumentTypes.DIMENSION.y())) {
+            minY = Math.max(minY, boxMin.getY());
+            maxY = Math.min(maxY, boxMax.getY());
+        }
+        if (sel.has(ArgumentTypes.DIMENSION.z())) {
+            minZ = Math.max(minZ, boxMin.getZ());
+            maxZ = Math.min(maxZ, boxMax.getZ());
+        }
+        if (Double.isInfinite(minX) || Double.isInfinite(maxX) || Double.isInfinite(minZ) || Double.isInfinite(maxZ)) {
+            return null;
+        }
+        // Very large areas would visit more chunk columns than a plain entity scan costs
+        if (((maxX - minX) / 16 + 1) * ((maxZ - minZ) / 16 + 1) > MAX_SEARCH_CHUNKS) {
+            return null;
+        }
+        // The chunk lookup only needs the x and z range, any height will do
+        if (Double.isInfinite(minY)) {
+            minY = -SEARCH_HEIGHT;
+        }
+        if (Double.isInfinite(maxY)) {
+            maxY = SEARCH_HEIGHT;
+        }
+        // Disjoint radius and volume arguments select nothing, the filter
+        // takes care of that but the box must not be inverted
+        maxX = Math.max(minX, maxX);
+        maxY = Math.max(minY, maxY);
+        maxZ = Math.max(minZ, maxZ);
+        // Entity bounding boxes start at their position, so grow the box by a
+        // margin to keep entities standing exactly on the boundary
+        return new AABB(minX - SEARCH_MARGIN, minY - SEARCH_MARGIN, minZ - SEARCH_MARGIN,
+                maxX + SEARCH_MARGIN, maxY + SEARCH_MARGIN, maxZ + SEARCH_MARGIN);
+    }
+
     private void addDimensionFilters(final Vector3d position, List<Predicate<Entity>> filters) {
         Selector sel = this.selector;
         Vector3d boxDimensions = getPositionOrDefault(ORIGIN, ArgumentTypes.DIMENSION);
@@ -297,10 +380,15 @@ private void addTeamFilters(List<Predicate<Entity>> filters) {
             final Collection<Team> teams = Sponge.getGame().getServer().getServerScoreboard().get().getTeams();
             filters.add(new Predicate<Entity>() {
 
+                @Nullable private Collection<Text> members;
+
                 @Override
                 public boolean test(Entity input) {
                     if (input instanceof TeamMember) {
-                        return inverted ^ collectMembers(teams).contains(((TeamMember) input).getTeamRepresentation());
+                        if (this.members == null) {
+                            this.members = collectMembers(teams);
+                        }
+                        return inverted ^ this.members.contains(((TeamMember) input).getTeamRepresentation());
                     }
                     return false;
                 }
@@ -350,7 +438,7 @@ public Set<Entity> resolve() {
         int count = 0;
         ImmutableSet.Builder<Entity> entities = ImmutableSet.builder();
         for (Extent extent : extents) {
-            Collection<Entity> allEntities = extent.getEntities();
+            Collection<? extends Entity> allEntities = getCandidates(extent);
             if (selectorType == SelectorTypes.RANDOM) {
                 List<Entity> entityList = new ArrayList<>(allEntities);
                 Collections.shuffle(entityList);
@@ -367,10 +455,23 @@ public Set<Entity> resolve() {
                     break;
                 }
             }
+            if (maxToSelect != 0 && count > maxToSelect) {
+                break;
+            }
         }
         return entities.build();
     }
 
+    private Collection<? extends Entity> getCandidates(Extent extent) {
+        if (this.searchBox != null) {
+            return extent.getIntersectingEntities(this.searchBox, entity -> true);
+        }
+        if (this.playerOnly && extent instanceof World) {
+            return ((World) extent).getPlayers();
+        }
+        return extent.getEntities();
+    }
+
     private Set<? extends Extent> getExtentSet() {
         if (!this.alwaysUsePosition && Collections.disjoint(getArgumentTypes(this.selector.getArguments()), LOCATION_BASED_ARGUMENTS)) {
             return ImmutableSet.copyOf(SpongeImpl.getGame().getServer().getWorlds());
@@ -0,0 +1,142 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * A file visitor that copies a file tree into a target directory. Directories
+ * are created while the tree is walked and the files are copied on a small
+ * pool of worker threads, so large worlds made of many region files are not
+ * copied one file at a time.
+ *
+ * <p>{@link #awaitCompletion()} has to be called after the walk to wait for
+ * the copies to finish, and the visitor has to be closed to stop its
+ * workers.</p>
+ */
+public class ParallelCopyFileVisitor extends SimpleFileVisitor<Path> implements AutoCloseable {
+
+    private static final int MAX_COPY_THREADS = 4;
+
+    private final Path target;
+    @Nullable private Path source;
+    private final ExecutorService executor;
+    private final List<Future<?>> copies = new ArrayList<>();
+    private final AtomicLong copiedBytes = new AtomicLong();
+    private final LongConsumer progress;
+
+    public ParallelCopyFileVisitor(Path target) {
+        this(target, copiedBytes -> { });
+    }
+
+    /**
+     * Creates a visitor copying into the given directory.
+     *
+     * @param target The directory to copy the tree into
+     * @param progress Called on the copy threads after every copied file with
+     *     the total amount of bytes copied so far
+     */
+    public ParallelCopyFileVisitor(Path target, LongConsumer progress) {
+        this.target = checkNotNull(target, "target");
+        this.progress = checkNotNull(progress, "progress");
+        final int threads = Math.max(1, Math.min(MAX_COPY_THREADS, Runtime.getRuntime().availableProcessors()));
+        this.executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setNameFormat("Sponge - File Copy Thread #%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    @Override
+    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+        if (this.source == null) {
+            this.source = dir;
+        }
+        Files.createDirectories(this.target.resolve(this.source.relativize(dir)));
+        return FileVisitResult.CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+        checkState(this.source != null, "A file was visited before its directory");
+        final Path destination = this.target.resolve(this.source.relativize(file));
+        final long size = attrs.size();
+        this.copies.add(this.executor.submit(() -> {
+            Files.copy(file, destination, StandardCopyOption.COPY_ATTRIBUTES);
+            this.progress.accept(this.copiedBytes.addAndGet(size));
+            return null;
+        }));
+        return FileVisitResult.CONTINUE;
+    }
+
+    /**
+     * Waits for all files visited so far to be copied.
+     *
+     * @return The total amount of bytes copied
+     * @throws IOException If any of the files failed to copy
+     */
+    public long awaitCompletion() throws IOException {
+        try {
+            for (Future<?> copy : this.copies) {
+                copy.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while copying files to " + this.target);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Failed to copy files to " + this.target, e.getCause());
+        }
+        return this.copiedBytes.get();
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+}
@@ -57,7 +57,6 @@
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.cause.NamedCause;
-import org.spongepowered.api.util.file.CopyFileVisitor;
 import org.spongepowered.api.util.file.DeleteFileVisitor;
 import org.spongepowered.api.util.file.ForwardingFileVisitor;
 import org.spongepowered.api.world.DimensionTypes;
@@ -74,6 +73,7 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.IMixinWorldSettings;
+import org.spongepowered.common.util.ParallelCopyFileVisitor;
 import org.spongepowered.common.util.SpongeHooks;
 
 import java.io.DataInputStream;
@@ -1049,7 +1049,8 @@ public Optional<WorldProperties> call() throws Exception {
                 return Optional.empty();
             }
 
-            FileVisitor<Path> visitor = new CopyFileVisitor(newWorldFolder);
+            final ParallelCopyFileVisitor copyVisitor = new ParallelCopyFileVisitor(newWorldFolder);
+            FileVisitor<Path> visitor = copyVisitor;
             if (((IMixinWorldInfo) this.oldInfo).getDimensionId() == 0) {
                 oldWorldFolder = getCurrentSavesDirectory().get();
                 visitor = new ForwardingFileVisitor<Path>(visitor) {
@@ -1069,7 +1070,12 @@ public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) th
             }
 
             // Copy the world folder
-            Files.walkFileTree(oldWorldFolder, visitor);
+            try {
+                Files.walkFileTree(oldWorldFolder, visitor);
+                copyVisitor.awaitCompletion();
+            } finally {
+                copyVisitor.close();
+            }
 
             final WorldInfo info = new WorldInfo(this.oldInfo);
             info.setWorldName(this.newName);
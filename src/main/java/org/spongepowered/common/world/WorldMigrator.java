@@ -26,8 +26,8 @@
 
 import ninja.leaping.configurate.ConfigurationNode;
 import ninja.leaping.configurate.yaml.YAMLConfigurationLoader;
-import org.spongepowered.api.util.file.CopyFileVisitor;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.util.ParallelCopyFileVisitor;
 
 import java.io.IOException;
 import java.nio.file.DirectoryStream;
@@ -37,12 +37,36 @@
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
 
 /**
  * Used to migrate Worlds from Bukkit -> Sponge
  */
 public class WorldMigrator {
 
+    private static final long PROGRESS_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    /**
+     * Creates a progress callback which logs the amount of data copied for a
+     * world at most once every 5 seconds. It is called from the copy threads.
+     *
+     * @param oldWorldPath The world being copied
+     * @return The progress callback
+     */
+    private static LongConsumer progressLogger(Path oldWorldPath) {
+        final AtomicLong nextLog = new AtomicLong(System.nanoTime() + PROGRESS_LOG_INTERVAL_NANOS);
+        return copiedBytes -> {
+            final long now = System.nanoTime();
+            final long next = nextLog.get();
+            if (now - next >= 0 && nextLog.compareAndSet(next, now + PROGRESS_LOG_INTERVAL_NANOS)) {
+                SpongeImpl.getLogger().info("Copied [{}] MB of world data for [{}] so far.", copiedBytes / (1024 * 1024),
+                        oldWorldPath.getFileName());
+            }
+        };
+    }
+
     /**
      * Gets the old world container used when this server used to be running Bukkit.
      *
@@ -98,7 +122,12 @@ public static void migrateWorldsTo(Path worldContainer) {
                     SpongeImpl.getLogger().info("Migrating [{}] from [{}].", oldWorldPath.getFileName(), oldWorldContainer);
                     try {
                         worldPath = renameToVanillaNetherOrEnd(worldContainer, oldWorldPath, worldPath);
-                        Files.walkFileTree(oldWorldPath, new CopyFileVisitor(worldPath));
+                        try (ParallelCopyFileVisitor visitor = new ParallelCopyFileVisitor(worldPath, progressLogger(oldWorldPath))) {
+                            Files.walkFileTree(oldWorldPath, visitor);
+                            final long copiedBytes = visitor.awaitCompletion();
+                            SpongeImpl.getLogger().info("Copied [{}] MB of world data for [{}].", copiedBytes / (1024 * 1024),
+                                    oldWorldPath.getFileName());
+                        }
                         fixInnerNetherOrEndRegionData(worldPath);
                         removeInnerNameFolder(worldPath);
                         migrated.add(worldPath);
@@ -0,0 +1,90 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent;
+
+import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.world.World;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link SoftBufferExtentViewDownsize} over a chunk aligned area of a world
+ * that resolves the backing chunks once, so that block reads go straight to
+ * the chunk's block storage instead of through the world's chunk lookup.
+ */
+public class SoftBufferChunkExtentViewDownsize extends SoftBufferExtentViewDownsize {
+
+    private final int chunkMinX;
+    private final int chunkMinZ;
+    private final int chunkSizeX;
+    private final Chunk[] chunks;
+
+    public SoftBufferChunkExtentViewDownsize(World world, Vector3i blockMin, Vector3i blockMax, Vector3i hardMin, Vector3i hardMax) {
+        super(world, blockMin, blockMax, hardMin, hardMax);
+        this.chunkMinX = hardMin.getX() >> 4;
+        this.chunkMinZ = hardMin.getZ() >> 4;
+        this.chunkSizeX = (hardMax.getX() >> 4) - this.chunkMinX + 1;
+        final int chunkSizeZ = (hardMax.getZ() >> 4) - this.chunkMinZ + 1;
+        this.chunks = new Chunk[this.chunkSizeX * chunkSizeZ];
+        final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) ((WorldServer) world).getChunkProvider();
+        for (int z = 0; z < chunkSizeZ; z++) {
+            for (int x = 0; x < this.chunkSizeX; x++) {
+                this.chunks[x + z * this.chunkSizeX] =
+                        chunkProvider.getLoadedChunkWithoutMarkingActive(this.chunkMinX + x, this.chunkMinZ + z);
+            }
+        }
+    }
+
+    @Nullable
+    private Chunk getChunk(int x, int z) {
+        return this.chunks[(x >> 4) - this.chunkMinX + ((z >> 4) - this.chunkMinZ) * this.chunkSizeX];
+    }
+
+    @Override
+    public BlockType getBlockType(int x, int y, int z) {
+        checkBlockRange(x, y, z);
+        final Chunk chunk = getChunk(x, z);
+        if (chunk == null) {
+            return super.getBlockType(x, y, z);
+        }
+        return (BlockType) chunk.getBlockState(x, y, z).getBlock();
+    }
+
+    @Override
+    public BlockState getBlock(int x, int y, int z) {
+        checkBlockRange(x, y, z);
+        final Chunk chunk = getChunk(x, z);
+        if (chunk == null) {
+            return super.getBlock(x, y, z);
+        }
+        return (BlockState) chunk.getBlockState(x, y, z);
+    }
+
+}
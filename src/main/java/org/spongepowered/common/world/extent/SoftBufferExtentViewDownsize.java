@@ -173,7 +173,7 @@ private void checkBlockRange(double x, double y, double z) {
         }
     }
 
-    private void checkBlockRange(int x, int y, int z) {
+    protected void checkBlockRange(int x, int y, int z) {
         if (!VecHelper.inBounds(x, y, z, this.hardBlockMin, this.hardBlockMax)) {
             throw new PositionOutOfBoundsException(new Vector3i(x, y, z), this.hardBlockMin, this.hardBlockMax);
         }
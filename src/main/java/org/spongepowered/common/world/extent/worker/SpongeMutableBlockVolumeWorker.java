@@ -26,9 +26,13 @@
 
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.NamedCause;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.extent.worker.MutableBlockVolumeWorker;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeFiller;
+import org.spongepowered.common.event.tracking.CauseTracker;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 
 /**
  *
@@ -47,6 +51,14 @@ public void fill(BlockVolumeFiller filler, Cause cause) {
         final int xMax = this.volume.getBlockMax().getX();
         final int yMax = this.volume.getBlockMax().getY();
         final int zMax = this.volume.getBlockMax().getZ();
+        // Capture all block sets in a single phase, so they are applied and
+        // thrown as one event instead of one event per block
+        if (CauseTracker.ENABLED) {
+            CauseTracker.getInstance().switchToPhase(PluginPhase.State.BLOCK_WORKER, PhaseContext.start()
+                .add(NamedCause.source(this))
+                .addCaptures()
+                .complete());
+        }
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
                 for (int x = xMin; x <= xMax; x++) {
@@ -55,5 +67,8 @@ public void fill(BlockVolumeFiller filler, Cause cause) {
                 }
             }
         }
+        if (CauseTracker.ENABLED) {
+            CauseTracker.getInstance().completePhase(PluginPhase.State.BLOCK_WORKER);
+        }
     }
 }
@@ -33,6 +33,7 @@
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
 import net.minecraft.block.BlockFalling;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
@@ -84,7 +85,7 @@
 import org.spongepowered.common.util.gen.ChunkPrimerBuffer;
 import org.spongepowered.common.util.gen.ObjectArrayMutableBiomeBuffer;
 import org.spongepowered.common.world.biome.SpongeBiomeGenerationSettings;
-import org.spongepowered.common.world.extent.SoftBufferExtentViewDownsize;
+import org.spongepowered.common.world.extent.SoftBufferChunkExtentViewDownsize;
 import org.spongepowered.common.world.gen.populators.SnowPopulator;
 
 import java.util.ArrayList;
@@ -103,6 +104,7 @@
 public class SpongeChunkGenerator implements WorldGenerator, IChunkGenerator {
 
     private static final Vector3i CHUNK_AREA = new Vector3i(16, 1, 16);
+    private static final int MAX_CACHED_BIOME_VOLUMES = 256;
 
     protected BiomeGenerator biomeGenerator;
     protected GenerationPopulator baseGenerator;
@@ -111,6 +113,8 @@ public class SpongeChunkGenerator implements WorldGenerator, IChunkGenerator {
     protected Map<BiomeType, BiomeGenerationSettings> biomeSettings;
     protected final World world;
     protected final ObjectArrayMutableBiomeBuffer cachedBiomes;
+    // Biome volumes of recently generated chunks, reused when the chunk is populated
+    private final Long2ObjectLinkedOpenHashMap<ImmutableBiomeVolume> biomeVolumes = new Long2ObjectLinkedOpenHashMap<>();
 
     protected Random rand;
     private NoiseGeneratorPerlin noise4;
@@ -199,6 +203,7 @@ public BiomeGenerator getBiomeGenerator() {
     @Override
     public void setBiomeGenerator(BiomeGenerator biomeGenerator) {
         this.biomeGenerator = biomeGenerator;
+        this.biomeVolumes.clear();
         this.world.provider.biomeProvider = CustomBiomeProvider.of(biomeGenerator);
         if (this.baseGenerator instanceof IChunkProviderOverworld) {
             ((IChunkProviderOverworld) this.baseGenerator).setBiomeGenerator(biomeGenerator);
@@ -239,6 +244,10 @@ public Chunk generateChunk(int chunkX, int chunkZ) {
         this.cachedBiomes.reuse(new Vector3i(chunkX * 16, 0, chunkZ * 16));
         this.biomeGenerator.generateBiomes(this.cachedBiomes);
         ImmutableBiomeVolume biomeBuffer = this.cachedBiomes.getImmutableBiomeCopy();
+        if (this.biomeVolumes.size() >= MAX_CACHED_BIOME_VOLUMES) {
+            this.biomeVolumes.removeFirst();
+        }
+        this.biomeVolumes.put(ChunkPos.asLong(chunkX, chunkZ), biomeBuffer);
 
         // Generate base terrain
         ChunkPrimer chunkprimer = new ChunkPrimer();
@@ -301,10 +310,14 @@ public void populate(int chunkX, int chunkZ) {
         BlockFalling.fallInstantly = true;
 
         // Have to regeneate the biomes so that any virtual biomes can be passed
-        // to the populator.
-        this.cachedBiomes.reuse(new Vector3i(chunkX * 16, 0, chunkZ * 16));
-        this.biomeGenerator.generateBiomes(this.cachedBiomes);
-        ImmutableBiomeVolume biomeBuffer = this.cachedBiomes.getImmutableBiomeCopy();
+        // to the populator, unless the chunk was generated recently enough for
+        // its biomes to still be cached.
+        ImmutableBiomeVolume biomeBuffer = this.biomeVolumes.remove(ChunkPos.asLong(chunkX, chunkZ));
+        if (biomeBuffer == null) {
+            this.cachedBiomes.reuse(new Vector3i(chunkX * 16, 0, chunkZ * 16));
+            this.biomeGenerator.generateBiomes(this.cachedBiomes);
+            biomeBuffer = this.cachedBiomes.getImmutableBiomeCopy();
+        }
 
         BlockPos blockpos = new BlockPos(chunkX * 16, 0, chunkZ * 16);
         BiomeType biome = (BiomeType) this.world.getBiome(blockpos.add(16, 0, 16));
@@ -335,7 +348,8 @@ public void populate(int chunkX, int chunkZ) {
         List<String> flags = Lists.newArrayList();
         Vector3i min = new Vector3i(chunkX * 16 + 8, 0, chunkZ * 16 + 8);
         org.spongepowered.api.world.World spongeWorld = (org.spongepowered.api.world.World) this.world;
-        Extent volume = new SoftBufferExtentViewDownsize(chunk.getWorld(), min, min.add(15, 255, 15), min.sub(8, 0, 8), min.add(23, 255, 23));
+        Extent volume = new SoftBufferChunkExtentViewDownsize(chunk.getWorld(), min, min.add(15, 255, 15), min.sub(8, 0, 8),
+                min.add(23, 255, 23));
         for (Populator populator : populators) {
             final PopulatorType type = populator.getType();
             if (type == null) {
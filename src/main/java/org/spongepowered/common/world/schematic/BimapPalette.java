@@ -24,8 +24,12 @@
  */
 package org.spongepowered.common.world.schematic;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
+import static com.google.common.base.Preconditions.checkArgument;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.world.schematic.BlockPalette;
 import org.spongepowered.api.world.schematic.BlockPaletteType;
@@ -39,19 +43,20 @@ public class BimapPalette implements BlockPalette {
 
     private static final int DEFAULT_ALLOCATION_SIZE = 64;
 
-    private final BiMap<Integer, BlockState> ids;
-    private final BiMap<BlockState, Integer> idsr;
+    // Primitive maps in both directions, ids are looked up for every block of a volume
+    private final Int2ObjectMap<BlockState> ids;
+    private final Object2IntMap<BlockState> idsr;
     private final BitSet allocation = new BitSet(DEFAULT_ALLOCATION_SIZE);
     private int maxId = 0;
 
     public BimapPalette() {
-        this.ids = HashBiMap.create();
-        this.idsr = this.ids.inverse();
+        this(DEFAULT_ALLOCATION_SIZE);
     }
 
     public BimapPalette(int expectedSize) {
-        this.ids = HashBiMap.create(expectedSize);
-        this.idsr = this.ids.inverse();
+        this.ids = new Int2ObjectOpenHashMap<>(expectedSize);
+        this.idsr = new Object2IntOpenHashMap<>(expectedSize);
+        this.idsr.defaultReturnValue(-1);
     }
 
     @Override
@@ -66,19 +71,21 @@ public int getHighestId() {
 
     @Override
     public Optional<Integer> get(BlockState state) {
-        return Optional.ofNullable(this.idsr.get(state));
+        final int id = this.idsr.getInt(state);
+        return id == -1 ? Optional.empty() : Optional.of(id);
     }
 
     @Override
     public int getOrAssign(BlockState state) {
-        Integer id = this.idsr.get(state);
-        if (id == null) {
+        int id = this.idsr.getInt(state);
+        if (id == -1) {
             int next = this.allocation.nextClearBit(0);
             if (this.maxId < next) {
                 this.maxId = next;
             }
             this.allocation.set(next);
             this.ids.put(next, state);
+            this.idsr.put(state, next);
             return next;
         }
         return id;
@@ -90,17 +97,23 @@ public Optional<BlockState> get(int id) {
     }
 
     public void assign(BlockState state, int id) {
+        final int existing = this.idsr.getInt(state);
+        checkArgument(existing == -1 || existing == id, "value already present: %s", state);
         if (this.maxId < id) {
             this.maxId = id;
         }
         this.allocation.set(id);
-        this.ids.put(id, state);
+        final BlockState previous = this.ids.put(id, state);
+        if (previous != null) {
+            this.idsr.removeInt(previous);
+        }
+        this.idsr.put(state, id);
     }
 
     @Override
     public boolean remove(BlockState state) {
-        Integer id = this.idsr.get(state);
-        if (id == null) {
+        final int id = this.idsr.removeInt(state);
+        if (id == -1) {
             return false;
         }
         this.allocation.clear(id);
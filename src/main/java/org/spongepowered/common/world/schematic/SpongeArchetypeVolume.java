@@ -78,13 +78,15 @@ public MutableBlockVolumeWorker<? extends ArchetypeVolume> getBlockWorker(Cause
 
     @Override
     public void apply(Location<World> location, BlockChangeFlag changeFlag, Cause cause) {
+        final World extent = location.getExtent();
+        final int xOffset = location.getBlockX();
+        final int yOffset = location.getBlockY();
+        final int zOffset = location.getBlockZ();
         this.backing.getBlockWorker(cause).iterate((v, x, y, z) -> {
-            location.getExtent().setBlock(x + location.getBlockX(), y + location.getBlockY(), z + location.getBlockZ(), v.getBlock(x, y, z), changeFlag,
-                    cause);
+            extent.setBlock(x + xOffset, y + yOffset, z + zOffset, v.getBlock(x, y, z), changeFlag, cause);
         });
-        for (Vector3i pos : this.tiles.keySet()) {
-            TileEntityArchetype archetype = this.tiles.get(pos);
-            archetype.apply(location.add(pos), cause);
+        for (Map.Entry<Vector3i, TileEntityArchetype> entry : this.tiles.entrySet()) {
+            entry.getValue().apply(location.add(entry.getKey()), cause);
         }
     }
 
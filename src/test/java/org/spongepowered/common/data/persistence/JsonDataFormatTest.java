@@ -0,0 +1,82 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.io.IOException;
+
+public class JsonDataFormatTest {
+
+    @Test
+    public void testNestedContainerRoundTrip() throws IOException {
+        final JsonDataFormat format = new JsonDataFormat();
+        final DataContainer listEntry = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED)
+                .set(DataQuery.of("name"), "entry")
+                .set(DataQuery.of("enabled"), true);
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED)
+                .set(DataQuery.of("outer", "inner", "flag"), false)
+                .set(DataQuery.of("outer", "inner", "value"), 3)
+                .set(DataQuery.of("outer", "name"), "outer")
+                .set(DataQuery.of("after"), "root")
+                .set(DataQuery.of("entries"), ImmutableList.of(listEntry, listEntry));
+        final DataContainer translatedContainer = format.read(format.write(container));
+        assertEquals(container, translatedContainer);
+    }
+
+    @Test
+    public void testWriterNestedObjects() throws IOException {
+        final DataViewJsonWriter writer = new DataViewJsonWriter();
+        writer.beginObject();
+        writer.name("outer").beginObject();
+        writer.name("inner").beginObject();
+        writer.name("value").value(3);
+        writer.endObject();
+        // Fields after a nested object must go to the nested object's parent, not the root
+        writer.name("name").value("outer");
+        writer.endObject();
+        writer.name("entries").beginArray();
+        writer.beginObject().name("name").value("entry").endObject();
+        writer.endArray();
+        writer.name("after").value("root");
+        writer.endObject();
+
+        final DataContainer entry = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED)
+                .set(DataQuery.of("name"), "entry");
+        final DataContainer expected = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED)
+                .set(DataQuery.of("outer", "inner", "value"), 3L)
+                .set(DataQuery.of("outer", "name"), "outer")
+                .set(DataQuery.of("entries"), ImmutableList.of(entry))
+                .set(DataQuery.of("after"), "root");
+        assertEquals(expected, writer.getResult());
+    }
+
+}
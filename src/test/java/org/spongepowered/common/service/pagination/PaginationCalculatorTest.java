@@ -51,4 +51,11 @@ public void linesTest() throws Exception {
         verifyZeroInteractions(this.src);
     }
 
+    @Test
+    public void widthTest() throws Exception {
+        assertEquals("A space should be 4 wide", 4, this.pc.getWidth(' ', false));
+        assertEquals("A bold space should be 5 wide", 5, this.pc.getWidth(' ', true));
+        assertEquals("The null character should have no width", 0, this.pc.getWidth(0, true));
+    }
+
 }
@@ -24,9 +24,11 @@
  */
 package org.spongepowered.common.util.persistence.data;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableList;
 import net.minecraft.nbt.NBTTagCompound;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -63,4 +65,36 @@ public void testDotContainerKeys() {
         assertEquals(container, translatedContainer);
     }
 
+    @Test
+    public void testNestedContainerRoundTrip() {
+        final DataContainer listEntry = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED)
+                .set(DataQuery.of("name"), "entry")
+                .set(DataQuery.of("enabled"), true);
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED)
+                .set(DataQuery.of("outer", "inner", "flag"), false)
+                .set(DataQuery.of("outer", "inner", "value"), 3L)
+                .set(DataQuery.of("outer", "short"), (short) 4)
+                .set(DataQuery.of("entries"), ImmutableList.of(listEntry, listEntry))
+                .set(DataQuery.of("strings"), ImmutableList.of("a", "b"));
+        NBTTagCompound compound = NbtTranslator.getInstance().translateData(container);
+        DataView translatedContainer = NbtTranslator.getInstance().translateFrom(compound);
+        assertEquals(container, translatedContainer);
+    }
+
+    @Test
+    public void testArrayRoundTrip() {
+        final byte[] bytes = new byte[] {1, 2, 3};
+        final int[] ints = new int[] {4, 5, 6};
+        final DataContainer container = DataContainer.createNew()
+                .set(DataQuery.of("bytes"), bytes)
+                .set(DataQuery.of("nested", "ints"), ints);
+        NBTTagCompound compound = NbtTranslator.getInstance().translateData(container);
+        // Cloning views must not share their arrays with the compound
+        compound.getByteArray("bytes")[0] = 9;
+        DataView translatedContainer = NbtTranslator.getInstance().translateFrom(compound);
+        assertArrayEquals(new byte[] {1, 2, 3}, (byte[]) container.get(DataQuery.of("bytes")).get());
+        assertArrayEquals(new byte[] {9, 2, 3}, (byte[]) translatedContainer.get(DataQuery.of("bytes")).get());
+        assertArrayEquals(ints, (int[]) translatedContainer.get(DataQuery.of("nested", "ints")).get());
+    }
+
 }